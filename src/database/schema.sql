@@ -15,27 +15,47 @@ USE scholar_db;
 -- Stores information about academic researchers
 -- ============================================
 CREATE TABLE IF NOT EXISTS researchers (
-                                           id BIGINT AUTO_INCREMENT PRIMARY KEY,
-                                           name VARCHAR(255) NOT NULL,
+    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    name VARCHAR(255) NOT NULL,
+    -- Lower-case name without accents or punctuation (see ResearcherNames)
+    normalized_name VARCHAR(255),
     author_id VARCHAR(100) UNIQUE,
     affiliations TEXT,
     cited_by INT DEFAULT 0,
     email VARCHAR(255),
+    -- Publications found by the latest background refresh
+    recent_publications INT,
     created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
     updated_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP,
 
     INDEX idx_name (name),
-    INDEX idx_author_id (author_id)
+    INDEX idx_author_id (author_id),
+    INDEX idx_normalized_name (normalized_name),
+    INDEX idx_updated_at (updated_at)
     ) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci;
 
+-- ============================================
+-- Table: article_seq
+-- Sequence emulated by Hibernate for article IDs (blocks of 50)
+-- ============================================
+CREATE TABLE IF NOT EXISTS article_seq (
+    next_val BIGINT
+    ) ENGINE=InnoDB;
+
+INSERT INTO article_seq (next_val)
+SELECT 1 FROM DUAL WHERE NOT EXISTS (SELECT * FROM article_seq);
+
 -- ============================================
 -- Table: articles
 -- Stores academic publications/articles
 -- ============================================
 CREATE TABLE IF NOT EXISTS articles (
-                                        id BIGINT AUTO_INCREMENT PRIMARY KEY,
-                                        researcher_id BIGINT NOT NULL,
-                                        title VARCHAR(500) NOT NULL,
+    -- Assigned from article_seq, not AUTO_INCREMENT
+    id BIGINT PRIMARY KEY,
+    researcher_id BIGINT NOT NULL,
+    title VARCHAR(500) NOT NULL,
+    -- SHA-256 of the normalized title (see TitleFingerprints)
+    title_fingerprint VARCHAR(64),
     authors TEXT,
     publication_date VARCHAR(50),
     abstract TEXT,
@@ -43,12 +63,18 @@ CREATE TABLE IF NOT EXISTS articles (
     keywords TEXT,
     cited_by INT DEFAULT 0,
     snippet TEXT,
+    -- SHA-256 of the refreshable fields; unchanged rows are not rewritten
+    content_hash VARCHAR(64),
     created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
     updated_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP,
 
     FOREIGN KEY (researcher_id) REFERENCES researchers(id) ON DELETE CASCADE,
+    UNIQUE KEY uk_researcher_title_fingerprint (researcher_id, title_fingerprint),
     INDEX idx_researcher_id (researcher_id),
-    INDEX idx_title (title(255))
+    INDEX idx_title (title(255)),
+    INDEX idx_cited_by_id (cited_by, id),
+    -- Article search (GET /api/database/articles/search)
+    FULLTEXT INDEX ft_articles_text (title, abstract, keywords)
     ) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci;
 
 -- ============================================
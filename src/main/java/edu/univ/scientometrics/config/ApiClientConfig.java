@@ -0,0 +1,92 @@
+package edu.univ.scientometrics.config;
+
+import edu.univ.scientometrics.service.ApiClient;
+import edu.univ.scientometrics.service.CachingApiClient;
+import edu.univ.scientometrics.service.CircuitBreakerApiClient;
+import edu.univ.scientometrics.service.DiskResponseStore;
+import edu.univ.scientometrics.service.GoogleScholarApiClient;
+import edu.univ.scientometrics.service.PersistentCachingApiClient;
+import edu.univ.scientometrics.service.RateLimitingApiClient;
+import edu.univ.scientometrics.service.RecordingApiClient;
+import edu.univ.scientometrics.service.ReplayApiClient;
+import edu.univ.scientometrics.service.ResponseFixtures;
+import edu.univ.scientometrics.service.RetryingApiClient;
+import edu.univ.scientometrics.service.SingleFlightApiClient;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+
+/**
+ * Assembles the ApiClient used by the service layer.
+ *
+ * GoogleScholarApiClient performs the HTTP calls; the beans declared here
+ * wrap it with decorators. The outermost decorator is marked @Primary so
+ * that services depending on ApiClient receive the full chain.
+ *
+ * Chain: CachingApiClient -> PersistentCachingApiClient -> SingleFlightApiClient
+ *        -> CircuitBreakerApiClient -> RetryingApiClient -> RateLimitingApiClient
+ *        -> serpApiTransport
+ *
+ * serpApiTransport is chosen by serpapi.mode: GoogleScholarApiClient (live),
+ * GoogleScholarApiClient wrapped in a RecordingApiClient (record), or a
+ * ReplayApiClient serving recorded fixtures offline (replay).
+ */
+@Configuration
+public class ApiClientConfig {
+
+    @Bean
+    @Primary
+    public CachingApiClient cachingApiClient(PersistentCachingApiClient persistentCachingApiClient,
+                                             ApiConfig apiConfig) {
+        return new CachingApiClient(persistentCachingApiClient, apiConfig.getCache());
+    }
+
+    @Bean
+    public PersistentCachingApiClient persistentCachingApiClient(SingleFlightApiClient singleFlightApiClient,
+                                                                 ObjectProvider<DiskResponseStore> diskResponseStore) {
+        return new PersistentCachingApiClient(singleFlightApiClient, diskResponseStore.getIfAvailable());
+    }
+
+    @Bean(destroyMethod = "close")
+    @ConditionalOnProperty(prefix = "serpapi.disk-cache", name = "enabled", matchIfMissing = true)
+    public DiskResponseStore diskResponseStore(ApiConfig apiConfig) {
+        return new DiskResponseStore(apiConfig.getDiskCache());
+    }
+
+    @Bean
+    public SingleFlightApiClient singleFlightApiClient(CircuitBreakerApiClient circuitBreakerApiClient) {
+        return new SingleFlightApiClient(circuitBreakerApiClient);
+    }
+
+    @Bean
+    public CircuitBreakerApiClient circuitBreakerApiClient(RetryingApiClient retryingApiClient,
+                                                           ApiConfig apiConfig) {
+        return new CircuitBreakerApiClient(retryingApiClient, apiConfig.getCircuitBreaker());
+    }
+
+    @Bean
+    public RetryingApiClient retryingApiClient(RateLimitingApiClient rateLimitingApiClient,
+                                               ApiConfig apiConfig) {
+        return new RetryingApiClient(rateLimitingApiClient, apiConfig.getRetry());
+    }
+
+    @Bean
+    public RateLimitingApiClient rateLimitingApiClient(@Qualifier("serpApiTransport") ApiClient serpApiTransport,
+                                                       ApiConfig apiConfig) {
+        return new RateLimitingApiClient(serpApiTransport, apiConfig.getRateLimit());
+    }
+
+    @Bean
+    public ApiClient serpApiTransport(GoogleScholarApiClient googleScholarApiClient, ApiConfig apiConfig) {
+        ResponseFixtures fixtures = new ResponseFixtures(apiConfig.getReplay().getDirectory());
+
+        return switch (apiConfig.getMode()) {
+            case LIVE -> googleScholarApiClient;
+            case RECORD -> new RecordingApiClient(googleScholarApiClient, fixtures);
+            case REPLAY -> new ReplayApiClient(fixtures, apiConfig.getReplay());
+        };
+    }
+}
@@ -7,13 +7,30 @@ import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Configuration;
 
+import java.time.Duration;
+
 @Configuration
 @ConfigurationProperties(prefix = "serpapi")
 @EnableConfigurationProperties
 public class ApiConfig {
+
+    /**
+     * Where responses come from: SerpApi (LIVE), SerpApi with every
+     * response saved as a fixture (RECORD), or saved fixtures only (REPLAY).
+     */
+    public enum Mode { LIVE, RECORD, REPLAY }
+
     private String apiKey;
     private String baseUrl = "https://serpapi.com/search";
     private String engine = "google_scholar";
+    private Mode mode = Mode.LIVE;
+    private final Http http = new Http();
+    private final Cache cache = new Cache();
+    private final DiskCache diskCache = new DiskCache();
+    private final Replay replay = new Replay();
+    private final RateLimit rateLimit = new RateLimit();
+    private final Retry retry = new Retry();
+    private final CircuitBreaker circuitBreaker = new CircuitBreaker();
 
     public String getApiKey() {
         return apiKey;
@@ -38,4 +55,455 @@ public class ApiConfig {
     public void setEngine(String engine) {
         this.engine = engine;
     }
-}
\ No newline at end of file
+
+    public Mode getMode() {
+        return mode;
+    }
+
+    public void setMode(Mode mode) {
+        this.mode = mode;
+    }
+
+    public Http getHttp() {
+        return http;
+    }
+
+    public Cache getCache() {
+        return cache;
+    }
+
+    public DiskCache getDiskCache() {
+        return diskCache;
+    }
+
+    public Replay getReplay() {
+        return replay;
+    }
+
+    public RateLimit getRateLimit() {
+        return rateLimit;
+    }
+
+    public Retry getRetry() {
+        return retry;
+    }
+
+    public CircuitBreaker getCircuitBreaker() {
+        return circuitBreaker;
+    }
+
+    /**
+     * HTTP transport settings (serpapi.http.*)
+     * An executor-threads value of 0 keeps the HttpClient default executor.
+     */
+    public static class Http {
+        private boolean compression = true;
+        private boolean preferHttp2 = true;
+        private int executorThreads = 0;
+        private Duration connectTimeout = Duration.ofSeconds(10);
+        private Duration requestTimeout = Duration.ofSeconds(30);
+
+        public boolean isCompression() {
+            return compression;
+        }
+
+        public void setCompression(boolean compression) {
+            this.compression = compression;
+        }
+
+        public boolean isPreferHttp2() {
+            return preferHttp2;
+        }
+
+        public void setPreferHttp2(boolean preferHttp2) {
+            this.preferHttp2 = preferHttp2;
+        }
+
+        public int getExecutorThreads() {
+            return executorThreads;
+        }
+
+        public void setExecutorThreads(int executorThreads) {
+            this.executorThreads = executorThreads;
+        }
+
+        public Duration getConnectTimeout() {
+            return connectTimeout;
+        }
+
+        public void setConnectTimeout(Duration connectTimeout) {
+            this.connectTimeout = connectTimeout;
+        }
+
+        public Duration getRequestTimeout() {
+            return requestTimeout;
+        }
+
+        public void setRequestTimeout(Duration requestTimeout) {
+            this.requestTimeout = requestTimeout;
+        }
+    }
+
+    /**
+     * In-memory response cache settings (serpapi.cache.*)
+     */
+    public static class Cache {
+        private boolean enabled = true;
+        private Duration ttl = Duration.ofMinutes(30);
+        private int maxEntries = 1000;
+        private long maxBytes = 64L * 1024 * 1024;
+        private boolean staleIfError = true;
+        private Duration maxStale = Duration.ofHours(24);
+
+        public boolean isEnabled() {
+            return enabled;
+        }
+
+        public void setEnabled(boolean enabled) {
+            this.enabled = enabled;
+        }
+
+        public Duration getTtl() {
+            return ttl;
+        }
+
+        public void setTtl(Duration ttl) {
+            this.ttl = ttl;
+        }
+
+        public int getMaxEntries() {
+            return maxEntries;
+        }
+
+        public void setMaxEntries(int maxEntries) {
+            this.maxEntries = maxEntries;
+        }
+
+        public long getMaxBytes() {
+            return maxBytes;
+        }
+
+        public void setMaxBytes(long maxBytes) {
+            this.maxBytes = maxBytes;
+        }
+
+        public boolean isStaleIfError() {
+            return staleIfError;
+        }
+
+        public void setStaleIfError(boolean staleIfError) {
+            this.staleIfError = staleIfError;
+        }
+
+        public Duration getMaxStale() {
+            return maxStale;
+        }
+
+        public void setMaxStale(Duration maxStale) {
+            this.maxStale = maxStale;
+        }
+    }
+
+    /**
+     * Persistent on-disk response cache settings (serpapi.disk-cache.*)
+     */
+    public static class DiskCache {
+        private boolean enabled = true;
+        private String directory = "data/serpapi-cache";
+        private Duration ttl = Duration.ofDays(7);
+        private int maxSegmentBytes = 64 * 1024 * 1024;
+        private Duration compactionInterval = Duration.ofMinutes(10);
+        private double compactionThreshold = 0.5;
+
+        public boolean isEnabled() {
+            return enabled;
+        }
+
+        public void setEnabled(boolean enabled) {
+            this.enabled = enabled;
+        }
+
+        public String getDirectory() {
+            return directory;
+        }
+
+        public void setDirectory(String directory) {
+            this.directory = directory;
+        }
+
+        public Duration getTtl() {
+            return ttl;
+        }
+
+        public void setTtl(Duration ttl) {
+            this.ttl = ttl;
+        }
+
+        public int getMaxSegmentBytes() {
+            return maxSegmentBytes;
+        }
+
+        public void setMaxSegmentBytes(int maxSegmentBytes) {
+            this.maxSegmentBytes = maxSegmentBytes;
+        }
+
+        public Duration getCompactionInterval() {
+            return compactionInterval;
+        }
+
+        public void setCompactionInterval(Duration compactionInterval) {
+            this.compactionInterval = compactionInterval;
+        }
+
+        public double getCompactionThreshold() {
+            return compactionThreshold;
+        }
+
+        public void setCompactionThreshold(double compactionThreshold) {
+            this.compactionThreshold = compactionThreshold;
+        }
+    }
+
+    /**
+     * Fixture recording and offline replay settings (serpapi.replay.*)
+     * The directory is written in RECORD mode and read in REPLAY mode.
+     */
+    public static class Replay {
+        private String directory = "fixtures/serpapi";
+        private Duration latency = Duration.ZERO;
+        private Duration jitter = Duration.ZERO;
+        private double errorRate = 0.0;
+        private int errorStatus = 503;
+
+        public String getDirectory() {
+            return directory;
+        }
+
+        public void setDirectory(String directory) {
+            this.directory = directory;
+        }
+
+        public Duration getLatency() {
+            return latency;
+        }
+
+        public void setLatency(Duration latency) {
+            this.latency = latency;
+        }
+
+        public Duration getJitter() {
+            return jitter;
+        }
+
+        public void setJitter(Duration jitter) {
+            this.jitter = jitter;
+        }
+
+        public double getErrorRate() {
+            return errorRate;
+        }
+
+        public void setErrorRate(double errorRate) {
+            this.errorRate = errorRate;
+        }
+
+        public int getErrorStatus() {
+            return errorStatus;
+        }
+
+        public void setErrorStatus(int errorStatus) {
+            this.errorStatus = errorStatus;
+        }
+    }
+
+    /**
+     * Client-side rate limiting and credit budget (serpapi.rate-limit.*)
+     * A budget of 0 means unlimited. The credits used in the current hour
+     * and month are kept in usage-file across restarts (empty = in memory).
+     */
+    public static class RateLimit {
+        private boolean enabled = true;
+        private double requestsPerSecond = 2.0;
+        private int burst = 1;
+        private int hourlyBudget = 0;
+        private int monthlyBudget = 0;
+        private int maxQueue = 100;
+        private Duration maxWait = Duration.ofSeconds(10);
+        private String usageFile = "";
+
+        public boolean isEnabled() {
+            return enabled;
+        }
+
+        public void setEnabled(boolean enabled) {
+            this.enabled = enabled;
+        }
+
+        public double getRequestsPerSecond() {
+            return requestsPerSecond;
+        }
+
+        public void setRequestsPerSecond(double requestsPerSecond) {
+            this.requestsPerSecond = requestsPerSecond;
+        }
+
+        public int getBurst() {
+            return burst;
+        }
+
+        public void setBurst(int burst) {
+            this.burst = burst;
+        }
+
+        public int getHourlyBudget() {
+            return hourlyBudget;
+        }
+
+        public void setHourlyBudget(int hourlyBudget) {
+            this.hourlyBudget = hourlyBudget;
+        }
+
+        public int getMonthlyBudget() {
+            return monthlyBudget;
+        }
+
+        public void setMonthlyBudget(int monthlyBudget) {
+            this.monthlyBudget = monthlyBudget;
+        }
+
+        public int getMaxQueue() {
+            return maxQueue;
+        }
+
+        public void setMaxQueue(int maxQueue) {
+            this.maxQueue = maxQueue;
+        }
+
+        public Duration getMaxWait() {
+            return maxWait;
+        }
+
+        public void setMaxWait(Duration maxWait) {
+            this.maxWait = maxWait;
+        }
+
+        public String getUsageFile() {
+            return usageFile;
+        }
+
+        public void setUsageFile(String usageFile) {
+            this.usageFile = usageFile;
+        }
+    }
+
+    /**
+     * Retries of transient SerpApi failures (serpapi.retry.*)
+     */
+    public static class Retry {
+        private boolean enabled = true;
+        private int maxAttempts = 3;
+        private Duration initialBackoff = Duration.ofMillis(200);
+        private Duration maxBackoff = Duration.ofSeconds(5);
+        private double multiplier = 2.0;
+
+        public boolean isEnabled() {
+            return enabled;
+        }
+
+        public void setEnabled(boolean enabled) {
+            this.enabled = enabled;
+        }
+
+        public int getMaxAttempts() {
+            return maxAttempts;
+        }
+
+        public void setMaxAttempts(int maxAttempts) {
+            this.maxAttempts = maxAttempts;
+        }
+
+        public Duration getInitialBackoff() {
+            return initialBackoff;
+        }
+
+        public void setInitialBackoff(Duration initialBackoff) {
+            this.initialBackoff = initialBackoff;
+        }
+
+        public Duration getMaxBackoff() {
+            return maxBackoff;
+        }
+
+        public void setMaxBackoff(Duration maxBackoff) {
+            this.maxBackoff = maxBackoff;
+        }
+
+        public double getMultiplier() {
+            return multiplier;
+        }
+
+        public void setMultiplier(double multiplier) {
+            this.multiplier = multiplier;
+        }
+    }
+
+    /**
+     * Circuit breaker around SerpApi (serpapi.circuit-breaker.*)
+     */
+    public static class CircuitBreaker {
+        private boolean enabled = true;
+        private int windowSize = 20;
+        private int minimumCalls = 10;
+        private int failureRateThreshold = 50;
+        private Duration openDuration = Duration.ofSeconds(30);
+        private int halfOpenCalls = 3;
+
+        public boolean isEnabled() {
+            return enabled;
+        }
+
+        public void setEnabled(boolean enabled) {
+            this.enabled = enabled;
+        }
+
+        public int getWindowSize() {
+            return windowSize;
+        }
+
+        public void setWindowSize(int windowSize) {
+            this.windowSize = windowSize;
+        }
+
+        public int getMinimumCalls() {
+            return minimumCalls;
+        }
+
+        public void setMinimumCalls(int minimumCalls) {
+            this.minimumCalls = minimumCalls;
+        }
+
+        public int getFailureRateThreshold() {
+            return failureRateThreshold;
+        }
+
+        public void setFailureRateThreshold(int failureRateThreshold) {
+            this.failureRateThreshold = failureRateThreshold;
+        }
+
+        public Duration getOpenDuration() {
+            return openDuration;
+        }
+
+        public void setOpenDuration(Duration openDuration) {
+            this.openDuration = openDuration;
+        }
+
+        public int getHalfOpenCalls() {
+            return halfOpenCalls;
+        }
+
+        public void setHalfOpenCalls(int halfOpenCalls) {
+            this.halfOpenCalls = halfOpenCalls;
+        }
+    }
+}
@@ -0,0 +1,51 @@
+package edu.univ.scientometrics.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Bulk ingestion job settings (ingestion.*)
+ *
+ * concurrency bounds how many researchers are processed at once across all
+ * jobs; SerpApi traffic is still paced by the rate limiter behind it.
+ */
+@Configuration
+@ConfigurationProperties(prefix = "ingestion")
+public class IngestionConfig {
+    private int concurrency = 8;
+    private boolean virtualThreads = true;
+    private int maxNamesPerJob = 1000;
+    private int retainedJobs = 50;
+
+    public int getConcurrency() {
+        return concurrency;
+    }
+
+    public void setConcurrency(int concurrency) {
+        this.concurrency = concurrency;
+    }
+
+    public boolean isVirtualThreads() {
+        return virtualThreads;
+    }
+
+    public void setVirtualThreads(boolean virtualThreads) {
+        this.virtualThreads = virtualThreads;
+    }
+
+    public int getMaxNamesPerJob() {
+        return maxNamesPerJob;
+    }
+
+    public void setMaxNamesPerJob(int maxNamesPerJob) {
+        this.maxNamesPerJob = maxNamesPerJob;
+    }
+
+    public int getRetainedJobs() {
+        return retainedJobs;
+    }
+
+    public void setRetainedJobs(int retainedJobs) {
+        this.retainedJobs = retainedJobs;
+    }
+}
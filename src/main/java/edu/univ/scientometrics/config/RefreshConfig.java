@@ -0,0 +1,74 @@
+package edu.univ.scientometrics.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+/**
+ * Background refresh settings (refresh.*)
+ *
+ * Each refresh costs one SerpApi search per page of 20 that max-articles
+ * may need, so credits-per-hour caps how many researchers are refreshed
+ * per hour. Researchers updated more recently than min-age are never
+ * refreshed; keep min-age longer than serpapi.disk-cache.ttl so refreshes
+ * are not answered from the cache.
+ */
+@Configuration
+@ConfigurationProperties(prefix = "refresh")
+public class RefreshConfig {
+    private boolean enabled = false;
+    private int creditsPerHour = 30;
+    private Duration interval = Duration.ofMinutes(5);
+    private Duration minAge = Duration.ofDays(8);
+    private int maxCandidates = 1000;
+    private int maxArticles = 20;
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public int getCreditsPerHour() {
+        return creditsPerHour;
+    }
+
+    public void setCreditsPerHour(int creditsPerHour) {
+        this.creditsPerHour = creditsPerHour;
+    }
+
+    public Duration getInterval() {
+        return interval;
+    }
+
+    public void setInterval(Duration interval) {
+        this.interval = interval;
+    }
+
+    public Duration getMinAge() {
+        return minAge;
+    }
+
+    public void setMinAge(Duration minAge) {
+        this.minAge = minAge;
+    }
+
+    public int getMaxCandidates() {
+        return maxCandidates;
+    }
+
+    public void setMaxCandidates(int maxCandidates) {
+        this.maxCandidates = maxCandidates;
+    }
+
+    public int getMaxArticles() {
+        return maxArticles;
+    }
+
+    public void setMaxArticles(int maxArticles) {
+        this.maxArticles = maxArticles;
+    }
+}
@@ -0,0 +1,63 @@
+package edu.univ.scientometrics.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+/**
+ * Write-behind queue settings (write-behind.*)
+ *
+ * Sizes are counted in queued saves (one searched researcher each). A
+ * batch is written as soon as batch-size saves are waiting, or after
+ * max-batch-delay when fewer arrive.
+ */
+@Configuration
+@ConfigurationProperties(prefix = "write-behind")
+public class WriteBehindConfig {
+    private int queueCapacity = 1000;
+    private int batchSize = 100;
+    private Duration maxBatchDelay = Duration.ofMillis(200);
+    private Duration enqueueTimeout = Duration.ofSeconds(2);
+    private Duration shutdownTimeout = Duration.ofSeconds(30);
+
+    public int getQueueCapacity() {
+        return queueCapacity;
+    }
+
+    public void setQueueCapacity(int queueCapacity) {
+        this.queueCapacity = queueCapacity;
+    }
+
+    public int getBatchSize() {
+        return batchSize;
+    }
+
+    public void setBatchSize(int batchSize) {
+        this.batchSize = batchSize;
+    }
+
+    public Duration getMaxBatchDelay() {
+        return maxBatchDelay;
+    }
+
+    public void setMaxBatchDelay(Duration maxBatchDelay) {
+        this.maxBatchDelay = maxBatchDelay;
+    }
+
+    public Duration getEnqueueTimeout() {
+        return enqueueTimeout;
+    }
+
+    public void setEnqueueTimeout(Duration enqueueTimeout) {
+        this.enqueueTimeout = enqueueTimeout;
+    }
+
+    public Duration getShutdownTimeout() {
+        return shutdownTimeout;
+    }
+
+    public void setShutdownTimeout(Duration shutdownTimeout) {
+        this.shutdownTimeout = shutdownTimeout;
+    }
+}
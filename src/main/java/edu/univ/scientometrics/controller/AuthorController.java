@@ -6,7 +6,12 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
+/**
+ * Search endpoints return CompletableFuture so the servlet thread is
+ * released while the SerpApi request is in flight.
+ */
 @RestController
 @RequestMapping("/api/authors")
 public class AuthorController {
@@ -18,33 +23,45 @@ public class AuthorController {
     }
 
     @GetMapping("/search")
-    public ResponseEntity<List<PublicationRecord>> searchAuthor(
+    public CompletableFuture<ResponseEntity<List<PublicationRecord>>> searchAuthor(
             @RequestParam String name
     ) {
-        List<PublicationRecord> publications = authorService.searchByAuthor(name);
-        return ResponseEntity.ok(publications);
+        return authorService.searchByAuthorAsync(name)
+                .thenApply(ResponseEntity::ok);
     }
 
     @GetMapping("/search/paginated")
-    public ResponseEntity<List<PublicationRecord>> searchAuthorPaginated(
+    public CompletableFuture<ResponseEntity<List<PublicationRecord>>> searchAuthorPaginated(
             @RequestParam String name,
             @RequestParam(defaultValue = "0") int start,
             @RequestParam(defaultValue = "10") int num
     ) {
-        List<PublicationRecord> publications =
-                authorService.searchByAuthorWithPagination(name, start, num);
-        return ResponseEntity.ok(publications);
+        return authorService.searchByAuthorWithPaginationAsync(name, start, num)
+                .thenApply(ResponseEntity::ok);
     }
 
     @GetMapping("/search/date-range")
-    public ResponseEntity<List<PublicationRecord>> searchAuthorDateRange(
+    public CompletableFuture<ResponseEntity<List<PublicationRecord>>> searchAuthorDateRange(
             @RequestParam String name,
             @RequestParam(required = false) Integer yearFrom,
             @RequestParam(required = false) Integer yearTo
     ) {
-        List<PublicationRecord> publications =
-                authorService.searchByAuthorWithDateRange(name, yearFrom, yearTo);
-        return ResponseEntity.ok(publications);
+        return authorService.searchByAuthorWithDateRangeAsync(name, yearFrom, yearTo)
+                .thenApply(ResponseEntity::ok);
+    }
+
+    /**
+     * Fetches all of an author's publications across pages.
+     *
+     * Endpoint: GET /api/authors/search/all?name=...&maxResults=200
+     */
+    @GetMapping("/search/all")
+    public CompletableFuture<ResponseEntity<List<PublicationRecord>>> searchAuthorAllPages(
+            @RequestParam String name,
+            @RequestParam(defaultValue = "200") int maxResults
+    ) {
+        return authorService.fetchAllPublicationsAsync(name, maxResults)
+                .thenApply(ResponseEntity::ok);
     }
 
     @GetMapping("/health")
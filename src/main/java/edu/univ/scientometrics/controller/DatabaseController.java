@@ -1,20 +1,29 @@
 package edu.univ.scientometrics.controller;
 
 import edu.univ.scientometrics.dto.ArticleDTO;
-import edu.univ.scientometrics.entity.ArticleEntity;
-import edu.univ.scientometrics.entity.ResearcherEntity;
+import edu.univ.scientometrics.dto.KeywordArticlesDTO;
+import edu.univ.scientometrics.dto.KeywordCountDTO;
+import edu.univ.scientometrics.dto.PageDTO;
+import edu.univ.scientometrics.dto.ResearcherDTO;
 import edu.univ.scientometrics.model.PublicationRecord;
 import edu.univ.scientometrics.repository.ArticleRepository;
 import edu.univ.scientometrics.repository.ResearcherRepository;
+import edu.univ.scientometrics.service.ArticleExportService;
 import edu.univ.scientometrics.service.AuthorServiceImpl;
+import edu.univ.scientometrics.service.KeywordIndex;
 import edu.univ.scientometrics.util.DataMapper;
+import edu.univ.scientometrics.util.FullTextQueries;
+import edu.univ.scientometrics.util.PageCursors;
+import jakarta.servlet.http.HttpServletResponse;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 import java.util.HashMap;
 import java.util.List;
+import java.util.Locale;
 import java.util.Map;
-import java.util.stream.Collectors;
 
 /**
  * REST Controller for database operations.
@@ -36,19 +45,38 @@ import java.util.stream.Collectors;
 @RequestMapping("/api/database")
 public class DatabaseController {
 
+    /**
+     * Default and maximum page sizes of the listing endpoints
+     */
+    private static final int DEFAULT_PAGE_SIZE = 50;
+    private static final int MAX_PAGE_SIZE = 500;
+
+    /**
+     * Page sizes of the article search, and how many matches it pages through
+     */
+    private static final int DEFAULT_SEARCH_PAGE_SIZE = 20;
+    private static final int MAX_SEARCH_PAGE_SIZE = 100;
+    private static final int MAX_SEARCH_RESULTS = 1000;
+
     private final AuthorServiceImpl authorService;
     private final ArticleRepository articleRepository;
     private final ResearcherRepository researcherRepository;
+    private final ArticleExportService articleExportService;
+    private final KeywordIndex keywordIndex;
 
     /**
      * Constructor with dependency injection.
      */
     public DatabaseController(AuthorServiceImpl authorService,
                               ArticleRepository articleRepository,
-                              ResearcherRepository researcherRepository) {
+                              ResearcherRepository researcherRepository,
+                              ArticleExportService articleExportService,
+                              KeywordIndex keywordIndex) {
         this.authorService = authorService;
         this.articleRepository = articleRepository;
         this.researcherRepository = researcherRepository;
+        this.articleExportService = articleExportService;
+        this.keywordIndex = keywordIndex;
     }
 
     /**
@@ -56,16 +84,33 @@ public class DatabaseController {
      *
      * Sprint 3 Requirement: Store 2 researchers with 3 articles each
      *
+     * With async=true only the search runs before responding (202); the
+     * results are queued and written in batches by WriteBehindArticleWriter.
+     *
      * Endpoint: POST /api/database/save
      *
      * @param name Researcher name to search
      * @param maxArticles Maximum articles to save (default: 3)
+     * @param async Queue the save instead of waiting for it (default: false)
      * @return Confirmation message with saved data count
      */
     @PostMapping("/save")
     public ResponseEntity<Map<String, Object>> searchAndSave(
             @RequestParam String name,
-            @RequestParam(defaultValue = "3") int maxArticles) {
+            @RequestParam(defaultValue = "3") int maxArticles,
+            @RequestParam(defaultValue = "false") boolean async) {
+
+        if (async) {
+            List<PublicationRecord> publications = authorService.searchAndQueueSave(name, maxArticles);
+
+            Map<String, Object> response = new HashMap<>();
+            response.put("message", "Data queued for saving");
+            response.put("researcherName", name);
+            response.put("articlesQueued", publications.size());
+            response.put("articlesFound", publications.size());
+
+            return ResponseEntity.accepted().body(response);
+        }
 
         List<PublicationRecord> publications =
                 authorService.searchAndSaveToDatabase(name, maxArticles);
@@ -73,41 +118,175 @@ public class DatabaseController {
         Map<String, Object> response = new HashMap<>();
         response.put("message", "Data saved successfully");
         response.put("researcherName", name);
-        response.put("articlesSaved", Math.min(publications.size(), maxArticles));
+        response.put("articlesSaved", publications.size());
         response.put("articlesFound", publications.size());
 
         return ResponseEntity.ok(response);
     }
 
     /**
-     * Retrieves all articles from database.
+     * Retrieves articles from database, most cited first, one page at a time.
+     *
+     * Pages are keyset-paginated: pass the nextCursor of a page to get the
+     * following one. Each page costs the same regardless of its depth.
      *
-     * Endpoint: GET /api/database/articles
+     * Endpoint: GET /api/database/articles?size=50&cursor=...
      *
-     * @return List of all articles as DTOs
+     * @param cursor Token from the previous page (omit for the first page)
+     * @param size Articles per page (1 to 500, default: 50)
+     * @return Page of articles as DTOs
      */
     @GetMapping("/articles")
-    public ResponseEntity<List<ArticleDTO>> getAllArticles() {
-        List<ArticleEntity> articles = articleRepository.findAll();
+    public ResponseEntity<PageDTO<ArticleDTO>> getAllArticles(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "" + DEFAULT_PAGE_SIZE) int size) {
+        validatePageSize(size);
+
+        Integer afterCitedBy = null;
+        Long afterId = null;
+        if (cursor != null) {
+            String[] key = PageCursors.decode(cursor, 2);
+            afterCitedBy = key[0].isEmpty() ? null : Integer.valueOf(key[0]);
+            afterId = Long.valueOf(key[1]);
+        }
+
+        // One extra row tells whether another page follows
+        List<ArticleDTO> articles = articleRepository.findPageByCitations(afterCitedBy, afterId, size + 1);
+        boolean hasMore = articles.size() > size;
+        List<ArticleDTO> page = hasMore ? articles.subList(0, size) : articles;
+
+        ArticleDTO last = page.isEmpty() ? null : page.get(page.size() - 1);
+        String nextCursor = hasMore ? PageCursors.encode(last.citedBy(), last.id()) : null;
+
+        return ResponseEntity.ok(new PageDTO<>(page, nextCursor));
+    }
+
+    /**
+     * Exports every article as NDJSON (one JSON object per line) or CSV.
+     *
+     * Rows are written to the response as they are read from the database,
+     * so the download starts immediately and memory use stays flat however
+     * many articles are stored. Runs on the request thread, so it is not
+     * subject to the async request timeout.
+     *
+     * Endpoint: GET /api/database/articles/export?format=ndjson|csv
+     *
+     * @param format Output format (default: ndjson)
+     * @param response Servlet response the export is written to
+     * @throws IOException if the client disconnects
+     */
+    @GetMapping("/articles/export")
+    public void exportArticles(@RequestParam(defaultValue = "ndjson") String format,
+                               HttpServletResponse response) throws IOException {
+        ArticleExportService.Format exportFormat;
+        try {
+            exportFormat = ArticleExportService.Format.valueOf(format.toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            response.sendError(HttpServletResponse.SC_BAD_REQUEST, "format must be ndjson or csv");
+            return;
+        }
+
+        response.setContentType(exportFormat.getContentType());
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        response.setHeader("Content-Disposition",
+                "attachment; filename=\"articles." + exportFormat.getExtension() + "\"");
+
+        articleExportService.export(exportFormat, response.getOutputStream());
+    }
+
+    /**
+     * Searches stored articles by title, abstract and keywords, most
+     * relevant first.
+     *
+     * Query syntax: plain words are optional and rank matches higher,
+     * +word is required, -word is excluded, word* matches a prefix and
+     * "..." matches an exact phrase. Words shorter than three letters and
+     * common stopwords are not indexed and are ignored.
+     *
+     * Relevance order cannot be keyset-paginated, so the cursor holds an
+     * offset and results stop after the first 1000 matches.
+     *
+     * Endpoint: GET /api/database/articles/search?q="neural network"&researcherId=1&yearFrom=2018&size=20
+     *
+     * @param q Search query
+     * @param researcherId Only articles of this researcher (optional)
+     * @param yearFrom Earliest publication year, inclusive (optional)
+     * @param yearTo Latest publication year, inclusive (optional)
+     * @param cursor Token from the previous page (omit for the first page)
+     * @param size Articles per page (1 to 100, default: 20)
+     * @return Page of matching articles as DTOs
+     */
+    @GetMapping("/articles/search")
+    public ResponseEntity<PageDTO<ArticleDTO>> searchArticles(
+            @RequestParam String q,
+            @RequestParam(required = false) Long researcherId,
+            @RequestParam(required = false) Integer yearFrom,
+            @RequestParam(required = false) Integer yearTo,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "" + DEFAULT_SEARCH_PAGE_SIZE) int size) {
+        if (size < 1 || size > MAX_SEARCH_PAGE_SIZE) {
+            throw new IllegalArgumentException("size must be between 1 and " + MAX_SEARCH_PAGE_SIZE);
+        }
+        if (yearFrom != null && yearTo != null && yearFrom > yearTo) {
+            throw new IllegalArgumentException("yearFrom must not be after yearTo");
+        }
+        String query = FullTextQueries.toBooleanQuery(q);
+        if (query.isEmpty()) {
+            throw new IllegalArgumentException("q must contain at least one word");
+        }
+
+        int offset = 0;
+        if (cursor != null) {
+            offset = Integer.parseInt(PageCursors.decode(cursor, 1)[0]);
+            if (offset < 0 || offset >= MAX_SEARCH_RESULTS) {
+                throw new IllegalArgumentException("Invalid cursor");
+            }
+        }
+        int limit = Math.min(size, MAX_SEARCH_RESULTS - offset);
+
+        List<ArticleDTO> articles = articleRepository.searchFullText(
+                query, researcherId, yearFrom, yearTo, offset, limit + 1);
+        boolean hasMore = articles.size() > limit;
+        List<ArticleDTO> page = hasMore ? articles.subList(0, limit) : articles;
 
-        List<ArticleDTO> dtos = articles.stream()
-                .map(DataMapper::toArticleDTO)
-                .collect(Collectors.toList());
+        String nextCursor = hasMore && offset + limit < MAX_SEARCH_RESULTS
+                ? PageCursors.encode(offset + limit)
+                : null;
 
-        return ResponseEntity.ok(dtos);
+        return ResponseEntity.ok(new PageDTO<>(page, nextCursor));
     }
 
     /**
-     * Retrieves all researchers from database.
+     * Retrieves researchers from database by name, one page at a time.
      *
-     * Endpoint: GET /api/database/researchers
+     * Endpoint: GET /api/database/researchers?size=50&cursor=...
      *
-     * @return List of all researchers
+     * @param cursor Token from the previous page (omit for the first page)
+     * @param size Researchers per page (1 to 500, default: 50)
+     * @return Page of researchers (without their articles)
      */
     @GetMapping("/researchers")
-    public ResponseEntity<List<ResearcherEntity>> getAllResearchers() {
-        List<ResearcherEntity> researchers = researcherRepository.findAll();
-        return ResponseEntity.ok(researchers);
+    public ResponseEntity<PageDTO<ResearcherDTO>> getAllResearchers(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "" + DEFAULT_PAGE_SIZE) int size) {
+        validatePageSize(size);
+
+        String afterName = null;
+        Long afterId = null;
+        if (cursor != null) {
+            String[] key = PageCursors.decode(cursor, 2);
+            afterName = key[0];
+            afterId = Long.valueOf(key[1]);
+        }
+
+        List<ResearcherDTO> researchers = researcherRepository.findPageByName(afterName, afterId, size + 1);
+        boolean hasMore = researchers.size() > size;
+        List<ResearcherDTO> page = hasMore ? researchers.subList(0, size) : researchers;
+
+        ResearcherDTO last = page.isEmpty() ? null : page.get(page.size() - 1);
+        String nextCursor = hasMore ? PageCursors.encode(last.name(), last.id()) : null;
+
+        return ResponseEntity.ok(new PageDTO<>(page, nextCursor));
     }
 
     /**
@@ -120,13 +299,57 @@ public class DatabaseController {
      */
     @GetMapping("/articles/researcher/{id}")
     public ResponseEntity<List<ArticleDTO>> getArticlesByResearcher(@PathVariable Long id) {
-        List<ArticleEntity> articles = articleRepository.findByResearcherId(id);
+        // Projected in one query; mapping entities would load each researcher lazily
+        return ResponseEntity.ok(articleRepository.findDTOsByResearcherId(id));
+    }
 
-        List<ArticleDTO> dtos = articles.stream()
-                .map(DataMapper::toArticleDTO)
-                .collect(Collectors.toList());
+    /**
+     * Lists the IDs of articles carrying a keyword, ascending, one page at
+     * a time. Answered from the in-memory keyword index.
+     *
+     * Endpoint: GET /api/database/keywords/{keyword}/articles?size=50&cursor=...
+     *
+     * @param keyword Keyword (normalized like stored keywords)
+     * @param cursor Token from the previous page (omit for the first page)
+     * @param size IDs per page (1 to 500, default: 50)
+     * @return Total count and one page of article IDs
+     */
+    @GetMapping("/keywords/{keyword}/articles")
+    public ResponseEntity<KeywordArticlesDTO> getArticlesByKeyword(
+            @PathVariable String keyword,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "" + DEFAULT_PAGE_SIZE) int size) {
+        validatePageSize(size);
+
+        long afterId = cursor == null ? 0 : Long.parseLong(PageCursors.decode(cursor, 1)[0]);
+
+        KeywordIndex.Page result = keywordIndex.page(keyword, afterId, size + 1);
+        List<Long> ids = result.articleIds();
+        boolean hasMore = ids.size() > size;
+        List<Long> page = hasMore ? ids.subList(0, size) : ids;
+        String nextCursor = hasMore ? PageCursors.encode(page.get(page.size() - 1)) : null;
 
-        return ResponseEntity.ok(dtos);
+        return ResponseEntity.ok(new KeywordArticlesDTO(
+                DataMapper.normalizeKeyword(keyword), result.total(), page, nextCursor));
+    }
+
+    /**
+     * Gets a researcher's most frequent keywords with their article
+     * counts. Answered from the in-memory keyword index.
+     *
+     * Endpoint: GET /api/database/researchers/{id}/keywords?limit=20
+     *
+     * @param id Researcher ID
+     * @param limit Maximum number of keywords (1 to 500, default: 20)
+     * @return Keywords, most articles first
+     */
+    @GetMapping("/researchers/{id}/keywords")
+    public ResponseEntity<List<KeywordCountDTO>> getTopKeywords(@PathVariable Long id,
+                                                               @RequestParam(defaultValue = "20") int limit) {
+        if (limit < 1 || limit > MAX_PAGE_SIZE) {
+            throw new IllegalArgumentException("limit must be between 1 and " + MAX_PAGE_SIZE);
+        }
+        return ResponseEntity.ok(keywordIndex.topKeywords(id, limit));
     }
 
     /**
@@ -152,6 +375,7 @@ public class DatabaseController {
 
         articleRepository.findAll().forEach(articleRepository::delete);
         researcherRepository.findAll().forEach(researcherRepository::delete);
+        keywordIndex.clear();
 
         Map<String, Object> response = new HashMap<>();
         response.put("message", "Database cleared successfully");
@@ -160,4 +384,10 @@ public class DatabaseController {
 
         return ResponseEntity.ok(response);
     }
-}
\ No newline at end of file
+
+    private static void validatePageSize(int size) {
+        if (size < 1 || size > MAX_PAGE_SIZE) {
+            throw new IllegalArgumentException("size must be between 1 and " + MAX_PAGE_SIZE);
+        }
+    }
+}
@@ -0,0 +1,83 @@
+package edu.univ.scientometrics.controller;
+
+import edu.univ.scientometrics.dto.IngestionJobRequest;
+import edu.univ.scientometrics.dto.IngestionJobStatus;
+import edu.univ.scientometrics.service.IngestionJobService;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.net.URI;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * REST Controller for bulk ingestion jobs.
+ *
+ * Submitting a job returns 202 Accepted with a job ID straight away; the
+ * researchers are searched and saved in the background, and progress is
+ * polled through the status endpoint.
+ */
+@RestController
+@RequestMapping("/api/database/jobs")
+public class IngestionJobController {
+
+    private final IngestionJobService ingestionJobService;
+
+    public IngestionJobController(IngestionJobService ingestionJobService) {
+        this.ingestionJobService = ingestionJobService;
+    }
+
+    /**
+     * Submits a job from a JSON body.
+     *
+     * Endpoint: POST /api/database/jobs
+     * Body: {"names": ["A Ng", "G Hinton"], "maxArticles": 3}
+     *
+     * @param request Names and per-researcher article limit
+     * @return Initial job status, with the status URL in the Location header
+     */
+    @PostMapping(consumes = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<IngestionJobStatus> submitJob(@RequestBody IngestionJobRequest request) {
+        int maxArticles = request.maxArticles() != null ? request.maxArticles() : 3;
+        return submit(request.names(), maxArticles);
+    }
+
+    /**
+     * Submits a job from a plain-text list, one researcher name per line.
+     *
+     * Endpoint: POST /api/database/jobs?maxArticles=3 (Content-Type: text/plain)
+     *
+     * @param body Names separated by new lines
+     * @param maxArticles Maximum articles to save per researcher (default: 3)
+     * @return Initial job status, with the status URL in the Location header
+     */
+    @PostMapping(consumes = MediaType.TEXT_PLAIN_VALUE)
+    public ResponseEntity<IngestionJobStatus> submitJobFromText(
+            @RequestBody String body,
+            @RequestParam(defaultValue = "3") int maxArticles) {
+        return submit(Arrays.asList(body.split("\\R")), maxArticles);
+    }
+
+    /**
+     * Returns per-researcher status, throughput and ETA of a job.
+     *
+     * Endpoint: GET /api/database/jobs/{jobId}
+     *
+     * @param jobId Job ID returned on submission
+     * @return Job status, or 404 if the job is unknown
+     */
+    @GetMapping("/{jobId}")
+    public ResponseEntity<IngestionJobStatus> getJobStatus(@PathVariable String jobId) {
+        return ingestionJobService.status(jobId)
+                .map(ResponseEntity::ok)
+                .orElse(ResponseEntity.notFound().build());
+    }
+
+    private ResponseEntity<IngestionJobStatus> submit(List<String> names, int maxArticles) {
+        IngestionJobStatus status = ingestionJobService.submit(names, maxArticles);
+        return ResponseEntity.accepted()
+                .location(URI.create("/api/database/jobs/" + status.jobId()))
+                .body(status);
+    }
+}
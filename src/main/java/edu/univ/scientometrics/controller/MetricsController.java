@@ -0,0 +1,174 @@
+package edu.univ.scientometrics.controller;
+
+import edu.univ.scientometrics.service.CachingApiClient;
+import edu.univ.scientometrics.service.CircuitBreakerApiClient;
+import edu.univ.scientometrics.service.GoogleScholarApiClient;
+import edu.univ.scientometrics.service.KeywordIndex;
+import edu.univ.scientometrics.service.PersistentCachingApiClient;
+import edu.univ.scientometrics.service.RateLimitingApiClient;
+import edu.univ.scientometrics.service.ResearcherRefreshScheduler;
+import edu.univ.scientometrics.service.RetryingApiClient;
+import edu.univ.scientometrics.service.SingleFlightApiClient;
+import edu.univ.scientometrics.service.WriteBehindArticleWriter;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * REST Controller exposing runtime counters of the API client layer.
+ *
+ * Endpoint base: /api/metrics
+ */
+@RestController
+@RequestMapping("/api/metrics")
+public class MetricsController {
+
+    private final CachingApiClient cachingApiClient;
+    private final PersistentCachingApiClient persistentCachingApiClient;
+    private final SingleFlightApiClient singleFlightApiClient;
+    private final RateLimitingApiClient rateLimitingApiClient;
+    private final RetryingApiClient retryingApiClient;
+    private final CircuitBreakerApiClient circuitBreakerApiClient;
+    private final GoogleScholarApiClient googleScholarApiClient;
+    private final ResearcherRefreshScheduler researcherRefreshScheduler;
+    private final WriteBehindArticleWriter writeBehindArticleWriter;
+    private final KeywordIndex keywordIndex;
+
+    public MetricsController(CachingApiClient cachingApiClient,
+                             PersistentCachingApiClient persistentCachingApiClient,
+                             SingleFlightApiClient singleFlightApiClient,
+                             RateLimitingApiClient rateLimitingApiClient,
+                             RetryingApiClient retryingApiClient,
+                             CircuitBreakerApiClient circuitBreakerApiClient,
+                             GoogleScholarApiClient googleScholarApiClient,
+                             ResearcherRefreshScheduler researcherRefreshScheduler,
+                             WriteBehindArticleWriter writeBehindArticleWriter,
+                             KeywordIndex keywordIndex) {
+        this.cachingApiClient = cachingApiClient;
+        this.persistentCachingApiClient = persistentCachingApiClient;
+        this.singleFlightApiClient = singleFlightApiClient;
+        this.rateLimitingApiClient = rateLimitingApiClient;
+        this.retryingApiClient = retryingApiClient;
+        this.circuitBreakerApiClient = circuitBreakerApiClient;
+        this.googleScholarApiClient = googleScholarApiClient;
+        this.researcherRefreshScheduler = researcherRefreshScheduler;
+        this.writeBehindArticleWriter = writeBehindArticleWriter;
+        this.keywordIndex = keywordIndex;
+    }
+
+    /**
+     * Response cache counters.
+     *
+     * Endpoint: GET /api/metrics/cache
+     *
+     * @return Hits, misses, evictions and current size of the cache
+     */
+    @GetMapping("/cache")
+    public ResponseEntity<CachingApiClient.Stats> cacheStats() {
+        return ResponseEntity.ok(cachingApiClient.stats());
+    }
+
+    /**
+     * Persistent disk cache counters.
+     *
+     * Endpoint: GET /api/metrics/disk-cache
+     *
+     * @return Disk hits, misses and writes, plus segment, byte and compaction counts
+     */
+    @GetMapping("/disk-cache")
+    public ResponseEntity<PersistentCachingApiClient.Stats> diskCacheStats() {
+        return ResponseEntity.ok(persistentCachingApiClient.stats());
+    }
+
+    /**
+     * Request coalescing counters.
+     *
+     * Endpoint: GET /api/metrics/coalescing
+     *
+     * @return Executed vs. coalesced request counts
+     */
+    @GetMapping("/coalescing")
+    public ResponseEntity<SingleFlightApiClient.Stats> coalescingStats() {
+        return ResponseEntity.ok(singleFlightApiClient.stats());
+    }
+
+    /**
+     * Rate limiter state and remaining SerpApi credit budget.
+     *
+     * Endpoint: GET /api/metrics/rate-limit
+     *
+     * @return Admitted/delayed/rejected counts and remaining budgets
+     */
+    @GetMapping("/rate-limit")
+    public ResponseEntity<RateLimitingApiClient.Stats> rateLimitStats() {
+        return ResponseEntity.ok(rateLimitingApiClient.stats());
+    }
+
+    /**
+     * Retry counters and circuit breaker state.
+     *
+     * Endpoint: GET /api/metrics/resilience
+     *
+     * @return Retry counts and current circuit state
+     */
+    @GetMapping("/resilience")
+    public ResponseEntity<Map<String, Object>> resilienceStats() {
+        Map<String, Object> stats = new HashMap<>();
+        stats.put("retry", retryingApiClient.stats());
+        stats.put("circuitBreaker", circuitBreakerApiClient.stats());
+
+        return ResponseEntity.ok(stats);
+    }
+
+    /**
+     * HTTP transport counters for SerpApi calls.
+     *
+     * Endpoint: GET /api/metrics/http
+     *
+     * @return Wire vs. decoded bytes, compressed responses and protocol split
+     */
+    @GetMapping("/http")
+    public ResponseEntity<GoogleScholarApiClient.Stats> httpStats() {
+        return ResponseEntity.ok(googleScholarApiClient.stats());
+    }
+
+    /**
+     * Background refresh counters and remaining credit budget.
+     *
+     * Endpoint: GET /api/metrics/refresh
+     *
+     * @return Refreshes done and failed, articles written and credits left
+     */
+    @GetMapping("/refresh")
+    public ResponseEntity<ResearcherRefreshScheduler.Stats> refreshStats() {
+        return ResponseEntity.ok(researcherRefreshScheduler.stats());
+    }
+
+    /**
+     * Write-behind queue depth and batching counters.
+     *
+     * Endpoint: GET /api/metrics/write-behind
+     *
+     * @return Queued, saved, rejected and failed saves, batches written and the latest failures
+     */
+    @GetMapping("/write-behind")
+    public ResponseEntity<WriteBehindArticleWriter.Stats> writeBehindStats() {
+        return ResponseEntity.ok(writeBehindArticleWriter.stats());
+    }
+
+    /**
+     * Keyword index size and update counters.
+     *
+     * Endpoint: GET /api/metrics/keyword-index
+     *
+     * @return Terms, articles and postings held, plus rebuilds and updates
+     */
+    @GetMapping("/keyword-index")
+    public ResponseEntity<KeywordIndex.Stats> keywordIndexStats() {
+        return ResponseEntity.ok(keywordIndex.stats());
+    }
+}
@@ -0,0 +1,14 @@
+package edu.univ.scientometrics.dto;
+
+/**
+ * Keywords of one stored article, as read to build the keyword index.
+ *
+ * @param id Article ID
+ * @param researcherId ID of the article's researcher
+ * @param keywords Comma-separated keywords column (may be null)
+ */
+public record ArticleKeywords(
+        Long id,
+        Long researcherId,
+        String keywords
+) {}
@@ -0,0 +1,14 @@
+package edu.univ.scientometrics.dto;
+
+import java.util.List;
+
+/**
+ * Request body for submitting a bulk ingestion job.
+ *
+ * @param names Researcher names to search and save
+ * @param maxArticles Maximum articles to save per researcher (default: 3)
+ */
+public record IngestionJobRequest(
+        List<String> names,
+        Integer maxArticles
+) {}
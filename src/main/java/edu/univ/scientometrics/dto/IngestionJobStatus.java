@@ -0,0 +1,53 @@
+package edu.univ.scientometrics.dto;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * Progress report of a bulk ingestion job.
+ *
+ * @param jobId Job identifier
+ * @param state QUEUED, RUNNING or COMPLETED
+ * @param total Number of researchers in the job
+ * @param succeeded Researchers saved successfully
+ * @param failed Researchers whose search or save failed
+ * @param running Researchers currently being processed
+ * @param articlesFound Publications found across succeeded researchers
+ * @param researchersPerMinute Completion rate since the job started
+ * @param etaSeconds Estimated seconds until completion (null until known)
+ * @param submittedAt When the job was accepted
+ * @param finishedAt When the last researcher finished (null while running)
+ * @param researchers Per-researcher status, in submission order
+ */
+public record IngestionJobStatus(
+        String jobId,
+        String state,
+        int total,
+        int succeeded,
+        int failed,
+        int running,
+        long articlesFound,
+        double researchersPerMinute,
+        Long etaSeconds,
+        Instant submittedAt,
+        Instant finishedAt,
+        List<ResearcherStatus> researchers
+) {
+
+    /**
+     * Status of one researcher within a job.
+     *
+     * @param name Researcher name as submitted
+     * @param state PENDING, RUNNING, SUCCEEDED or FAILED
+     * @param articlesFound Publications returned by the search (when succeeded)
+     * @param error Failure message (when failed)
+     * @param durationMs Processing time (when finished)
+     */
+    public record ResearcherStatus(
+            String name,
+            String state,
+            Integer articlesFound,
+            String error,
+            Long durationMs
+    ) {}
+}
@@ -0,0 +1,18 @@
+package edu.univ.scientometrics.dto;
+
+import java.util.List;
+
+/**
+ * One page of the articles carrying a keyword.
+ *
+ * @param keyword Normalized keyword
+ * @param total Number of articles with this keyword
+ * @param articleIds Article IDs of this page, ascending
+ * @param nextCursor Token for the next page, or null on the last page
+ */
+public record KeywordArticlesDTO(
+        String keyword,
+        int total,
+        List<Long> articleIds,
+        String nextCursor
+) {}
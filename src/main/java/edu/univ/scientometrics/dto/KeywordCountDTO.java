@@ -0,0 +1,12 @@
+package edu.univ.scientometrics.dto;
+
+/**
+ * A keyword and how many articles carry it.
+ *
+ * @param keyword Normalized keyword
+ * @param articles Number of articles with this keyword
+ */
+public record KeywordCountDTO(
+        String keyword,
+        int articles
+) {}
@@ -0,0 +1,21 @@
+package edu.univ.scientometrics.dto;
+
+import java.util.List;
+
+/**
+ * One page of a keyset-paginated listing.
+ *
+ * @param items Items of this page, in listing order
+ * @param size Number of items in this page
+ * @param nextCursor Token for the next page, or null on the last page
+ * @param <T> Item type
+ */
+public record PageDTO<T>(
+        List<T> items,
+        int size,
+        String nextCursor
+) {
+    public PageDTO(List<T> items, String nextCursor) {
+        this(items, items.size(), nextCursor);
+    }
+}
@@ -0,0 +1,23 @@
+package edu.univ.scientometrics.dto;
+
+/**
+ * Data Transfer Object for Researcher information.
+ *
+ * Flat view of a researcher without its articles, so listing researchers
+ * never loads (or serializes) their publications.
+ *
+ * @param id Unique identifier
+ * @param name Researcher's full name
+ * @param authorId Google Scholar author ID
+ * @param affiliations Academic affiliations
+ * @param citedBy Total number of citations
+ * @param email Email address (if available)
+ */
+public record ResearcherDTO(
+        Long id,
+        String name,
+        String authorId,
+        String affiliations,
+        Integer citedBy,
+        String email
+) {}
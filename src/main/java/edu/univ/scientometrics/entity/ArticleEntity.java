@@ -1,5 +1,7 @@
 package edu.univ.scientometrics.entity;
 
+import edu.univ.scientometrics.util.Hashes;
+import edu.univ.scientometrics.util.TitleFingerprints;
 import jakarta.persistence.*;
 import java.time.LocalDateTime;
 
@@ -20,15 +22,29 @@ import java.time.LocalDateTime;
 @Entity
 @Table(name = "articles", indexes = {
         @Index(name = "idx_researcher_id", columnList = "researcher_id"),
-        @Index(name = "idx_title", columnList = "title")
+        @Index(name = "idx_title", columnList = "title"),
+        @Index(name = "idx_cited_by_id", columnList = "cited_by, id")
+}, uniqueConstraints = {
+        @UniqueConstraint(name = "uk_researcher_title_fingerprint",
+                columnNames = {"researcher_id", "title_fingerprint"})
 })
 public class ArticleEntity {
 
     /**
-     * Primary key - auto-generated unique identifier for each article
+     * Number of IDs reserved per sequence call; matches the JDBC batch size
+     */
+    public static final int ALLOCATION_SIZE = 50;
+
+    /**
+     * Primary key - generated from the article_seq sequence.
+     * Unlike IDENTITY, a sequence lets Hibernate assign IDs before the
+     * INSERT runs, so inserts can be sent in JDBC batches. IDs are reserved
+     * in blocks of ALLOCATION_SIZE (MySQL has no sequences, so Hibernate
+     * emulates one with a single-row table).
      */
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "article_seq")
+    @SequenceGenerator(name = "article_seq", sequenceName = "article_seq", allocationSize = ALLOCATION_SIZE)
     private Long id;
 
     /**
@@ -45,6 +61,13 @@ public class ArticleEntity {
     @Column(name = "title", length = 500, nullable = false)
     private String title;
 
+    /**
+     * Hash of the normalized title (see TitleFingerprints), unique per
+     * researcher. Derived from the title whenever the entity is written.
+     */
+    @Column(name = "title_fingerprint", length = TitleFingerprints.LENGTH)
+    private String titleFingerprint;
+
     /**
      * Comma-separated list of all authors
      * Stored as TEXT for unlimited length
@@ -90,6 +113,13 @@ public class ArticleEntity {
     @Column(name = "snippet", columnDefinition = "TEXT")
     private String snippet;
 
+    /**
+     * Hash of the fields refreshed on re-ingestion (cited_by, snippet);
+     * lets the upsert skip rows whose content has not changed
+     */
+    @Column(name = "content_hash", length = Hashes.SHA256_HEX_LENGTH)
+    private String contentHash;
+
     /**
      * Timestamp when this record was created
      */
@@ -136,21 +166,25 @@ public class ArticleEntity {
 
     /**
      * Called before persisting the entity to database
-     * Sets the createdAt timestamp
+     * Sets the createdAt timestamp and the title fingerprint
      */
     @PrePersist
     protected void onCreate() {
         this.createdAt = LocalDateTime.now();
         this.updatedAt = LocalDateTime.now();
+        this.titleFingerprint = TitleFingerprints.of(title);
+        this.contentHash = computeContentHash();
     }
 
     /**
      * Called before updating the entity in database
-     * Updates the updatedAt timestamp
+     * Updates the updatedAt timestamp and the title fingerprint
      */
     @PreUpdate
     protected void onUpdate() {
         this.updatedAt = LocalDateTime.now();
+        this.titleFingerprint = TitleFingerprints.of(title);
+        this.contentHash = computeContentHash();
     }
 
     // ============================================
@@ -182,6 +216,10 @@ public class ArticleEntity {
         this.title = title;
     }
 
+    public String getTitleFingerprint() {
+        return titleFingerprint;
+    }
+
     public String getAuthors() {
         return authors;
     }
@@ -238,6 +276,10 @@ public class ArticleEntity {
         this.snippet = snippet;
     }
 
+    public String getContentHash() {
+        return contentHash;
+    }
+
     public LocalDateTime getCreatedAt() {
         return createdAt;
     }
@@ -258,6 +300,15 @@ public class ArticleEntity {
     // UTILITY METHODS
     // ============================================
 
+    /**
+     * Hashes the current values of the refreshable fields.
+     *
+     * @return Hex-encoded SHA-256 of cited_by and snippet
+     */
+    public String computeContentHash() {
+        return Hashes.sha256Hex(citedBy + "\u0000" + (snippet != null ? snippet : ""));
+    }
+
     @Override
     public String toString() {
         return "ArticleEntity{" +
@@ -1,5 +1,6 @@
 package edu.univ.scientometrics.entity;
 
+import edu.univ.scientometrics.util.ResearcherNames;
 import jakarta.persistence.*;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
@@ -21,7 +22,9 @@ import java.util.List;
 @Entity
 @Table(name = "researchers", indexes = {
         @Index(name = "idx_name", columnList = "name"),
-        @Index(name = "idx_author_id", columnList = "author_id")
+        @Index(name = "idx_author_id", columnList = "author_id"),
+        @Index(name = "idx_normalized_name", columnList = "normalized_name"),
+        @Index(name = "idx_updated_at", columnList = "updated_at")
 })
 public class ResearcherEntity {
 
@@ -38,6 +41,13 @@ public class ResearcherEntity {
     @Column(name = "name", nullable = false)
     private String name;
 
+    /**
+     * Name normalized by ResearcherNames, matched exactly when resolving
+     * a researcher by name. Derived from name on every write.
+     */
+    @Column(name = "normalized_name", length = ResearcherNames.MAX_LENGTH)
+    private String normalizedName;
+
     /**
      * Google Scholar author ID (unique identifier from API)
      * Example: "mG4imMEAAAAJ"
@@ -63,6 +73,13 @@ public class ResearcherEntity {
     @Column(name = "email")
     private String email;
 
+    /**
+     * Publications returned by the last background refresh (published since
+     * the previous sync year); used as the researcher's activity level
+     */
+    @Column(name = "recent_publications")
+    private Integer recentPublications;
+
     /**
      * List of articles authored by this researcher
      * One researcher can have many articles (One-to-Many relationship)
@@ -111,20 +128,22 @@ public class ResearcherEntity {
 
     /**
      * Called before persisting to database
-     * Sets creation timestamp
+     * Sets creation timestamp and normalized name
      */
     @PrePersist
     protected void onCreate() {
+        this.normalizedName = ResearcherNames.normalize(name);
         this.createdAt = LocalDateTime.now();
         this.updatedAt = LocalDateTime.now();
     }
 
     /**
      * Called before updating in database
-     * Updates modification timestamp
+     * Updates modification timestamp and normalized name
      */
     @PreUpdate
     protected void onUpdate() {
+        this.normalizedName = ResearcherNames.normalize(name);
         this.updatedAt = LocalDateTime.now();
     }
 
@@ -174,6 +193,10 @@ public class ResearcherEntity {
         this.name = name;
     }
 
+    public String getNormalizedName() {
+        return normalizedName;
+    }
+
     public String getAuthorId() {
         return authorId;
     }
@@ -206,6 +229,14 @@ public class ResearcherEntity {
         this.email = email;
     }
 
+    public Integer getRecentPublications() {
+        return recentPublications;
+    }
+
+    public void setRecentPublications(Integer recentPublications) {
+        this.recentPublications = recentPublications;
+    }
+
     public List<ArticleEntity> getArticles() {
         return articles;
     }
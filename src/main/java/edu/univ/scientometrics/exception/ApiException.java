@@ -1,19 +1,37 @@
 package edu.univ.scientometrics.exception;
 
+import java.time.Duration;
+
 public class ApiException extends RuntimeException {
     private final int statusCode;
+    private final Duration retryAfter;
 
     public ApiException(String message, int statusCode) {
+        this(message, statusCode, null);
+    }
+
+    public ApiException(String message, int statusCode, Duration retryAfter) {
         super(message);
         this.statusCode = statusCode;
+        this.retryAfter = retryAfter;
     }
 
     public ApiException(String message, Throwable cause, int statusCode) {
         super(message, cause);
         this.statusCode = statusCode;
+        this.retryAfter = null;
     }
 
     public int getStatusCode() {
         return statusCode;
     }
-}
\ No newline at end of file
+
+    /**
+     * Delay requested by the upstream Retry-After header, if any.
+     *
+     * @return Requested delay, or null when the response did not specify one
+     */
+    public Duration getRetryAfter() {
+        return retryAfter;
+    }
+}
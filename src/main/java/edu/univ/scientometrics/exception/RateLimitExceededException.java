@@ -0,0 +1,20 @@
+package edu.univ.scientometrics.exception;
+
+/**
+ * Thrown when a request is refused by the client-side rate limiter
+ * (wait queue full or credit budget exhausted) before reaching SerpApi.
+ *
+ * Unlike an HTTP 429 returned by SerpApi itself, retrying immediately
+ * cannot succeed, so the retry layer does not retry these.
+ */
+public class RateLimitExceededException extends ApiException {
+
+    /**
+     * Constructs exception with message; status is always 429.
+     *
+     * @param message Error description
+     */
+    public RateLimitExceededException(String message) {
+        super(message, 429);
+    }
+}
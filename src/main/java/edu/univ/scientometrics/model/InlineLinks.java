@@ -1,9 +1,10 @@
 package edu.univ.scientometrics.model;
 
+import com.fasterxml.jackson.annotation.JsonAlias;
 import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 
 @JsonIgnoreProperties(ignoreUnknown = true)
 public record InlineLinks(
-        CitedBy citedBy,
+        @JsonAlias("cited_by") CitedBy citedBy,
         Versions versions
 ) {}
@@ -1,8 +1,12 @@
 package edu.univ.scientometrics.repository;
 
+import edu.univ.scientometrics.dto.ArticleDTO;
+import edu.univ.scientometrics.dto.ArticleKeywords;
 import edu.univ.scientometrics.entity.ArticleEntity;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Stream;
 
 /**
  * Repository interface for Article database operations.
@@ -29,6 +33,107 @@ public interface ArticleRepository {
      */
     ArticleEntity save(ArticleEntity article);
 
+    /**
+     * Persists a batch of new articles.
+     *
+     * Inserts are sent in JDBC batches and each batch is flushed and
+     * detached, so memory stays flat for large harvests. The returned
+     * entities are detached; other managed entities are left alone.
+     *
+     * @param articles New articles (without ID) to insert
+     * @return The same articles with generated IDs populated
+     */
+    List<ArticleEntity> saveAll(List<ArticleEntity> articles);
+
+    /**
+     * Inserts new articles and refreshes stored ones in batched
+     * single-statement upserts, keyed on researcher + title fingerprint.
+     *
+     * For an article already stored, cited_by, snippet and updated_at are
+     * overwritten only when its content hash differs; unchanged rows are not
+     * written. The entities are only read (they are not managed afterwards).
+     *
+     * @param articles Articles to insert or refresh (ID is ignored)
+     */
+    void upsertAll(List<ArticleEntity> articles);
+
+    /**
+     * Moves the article ID sequence past the highest stored ID, so IDs
+     * assigned from it never collide with rows inserted earlier (for
+     * example under the previous IDENTITY strategy).
+     */
+    void alignIdSequence();
+
+    /**
+     * Creates the FULLTEXT index over title, abstract and keywords if it
+     * does not exist yet. JPA index annotations cannot declare one, so
+     * schema generation leaves it out.
+     *
+     * Writes to the articles table are blocked until the index is built;
+     * on a large table that can take minutes.
+     *
+     * @return true if the index was created, false if it already existed
+     */
+    boolean ensureFullTextIndex();
+
+    /**
+     * Searches title, abstract and keywords through the FULLTEXT index,
+     * most relevant first, then by descending ID.
+     *
+     * @param booleanQuery MySQL boolean-mode query (see FullTextQueries)
+     * @param researcherId Only articles of this researcher, or null for all
+     * @param yearFrom Earliest publication year, inclusive, or null
+     * @param yearTo Latest publication year, inclusive, or null
+     * @param offset Number of matches to skip
+     * @param limit Maximum number of articles to return
+     * @return Matching article DTOs, in relevance order
+     */
+    List<ArticleDTO> searchFullText(String booleanQuery, Long researcherId,
+                                    Integer yearFrom, Integer yearTo, int offset, int limit);
+
+    /**
+     * Retrieves one page of articles ordered by citation count, most cited
+     * first, then by descending ID; articles without a count come last.
+     *
+     * Keyset pagination: the page starts strictly after the given sort key,
+     * so its cost does not depend on how deep it is (idx_cited_by_id).
+     *
+     * @param afterCitedBy Citation count of the last article of the previous page
+     * @param afterId ID of the last article of the previous page, or null for the first page
+     * @param limit Maximum number of articles to return
+     * @return Article DTOs of the page, in order (one query, no entities loaded)
+     */
+    List<ArticleDTO> findPageByCitations(Integer afterCitedBy, Long afterId, int limit);
+
+    /**
+     * Streams every article with its researcher, in ID order, without
+     * loading the table into memory.
+     *
+     * Rows are read from a streaming result set and entities are cleared
+     * from the persistence context as the stream advances, so the heap
+     * stays flat. Must be consumed and closed within one transaction.
+     *
+     * @return Lazy stream of articles (researcher already loaded)
+     */
+    Stream<ArticleEntity> streamAll();
+
+    /**
+     * Streams the keywords of every article, in ID order, from a streaming
+     * result set; only ID, researcher ID and keywords are read. Must be
+     * consumed and closed within one transaction.
+     *
+     * @return Lazy stream of article keywords
+     */
+    Stream<ArticleKeywords> streamKeywords();
+
+    /**
+     * Finds the keywords of all articles of a researcher.
+     *
+     * @param researcherId The researcher's ID
+     * @return Article keywords in ID order (empty if none)
+     */
+    List<ArticleKeywords> findKeywordsByResearcherId(Long researcherId);
+
     /**
      * Retrieves all articles from the database.
      *
@@ -52,6 +157,39 @@ public interface ArticleRepository {
      */
     List<ArticleEntity> findByResearcherId(Long researcherId);
 
+    /**
+     * Finds all articles of a researcher as read-only DTOs, most cited
+     * first, in a single query.
+     *
+     * @param researcherId The researcher's ID
+     * @return List of article DTOs (empty if none)
+     */
+    List<ArticleDTO> findDTOsByResearcherId(Long researcherId);
+
+    /**
+     * Returns the title fingerprints of a researcher's stored articles.
+     *
+     * Used for duplicate detection: only the 64-character fingerprints are
+     * read, never the article rows themselves.
+     *
+     * @param researcherId The researcher's ID
+     * @return Mutable set of fingerprints (empty if none)
+     */
+    Set<String> findTitleFingerprintsByResearcherId(Long researcherId);
+
+    /**
+     * Computes the fingerprint of articles stored before the column existed.
+     *
+     * Processes one batch of articles (in ID order, after the given ID)
+     * that have no fingerprint yet. An article whose fingerprint is already
+     * taken for its researcher (a legacy duplicate) is left without one.
+     *
+     * @param afterId Last article ID processed by the previous batch (0 to start)
+     * @param batchSize Maximum number of articles to process
+     * @return Highest article ID processed, or -1 when nothing was left
+     */
+    long backfillTitleFingerprints(long afterId, int batchSize);
+
     /**
      * Counts total number of articles in database.
      *
@@ -1,14 +1,33 @@
 package edu.univ.scientometrics.repository;
 
+import edu.univ.scientometrics.dto.ArticleDTO;
+import edu.univ.scientometrics.dto.ArticleKeywords;
 import edu.univ.scientometrics.entity.ArticleEntity;
+import edu.univ.scientometrics.util.TitleFingerprints;
 import jakarta.persistence.EntityManager;
 import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Query;
 import jakarta.persistence.TypedQuery;
+import org.hibernate.Session;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.generator.BeforeExecutionGenerator;
+import org.hibernate.generator.EventType;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Repository;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.sql.PreparedStatement;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Stream;
 
 /**
  * JPA implementation of ArticleRepository interface.
@@ -29,6 +48,55 @@ import java.util.Optional;
 @Transactional(readOnly = true) // Default: read-only transactions for queries
 public class ArticleRepositoryImpl implements ArticleRepository {
 
+    /**
+     * Constructor expression for read-only article views: one query reads
+     * the article columns and the researcher's ID and name through an
+     * inner join, without hydrating (or lazily loading) any entity.
+     */
+    private static final String SELECT_ARTICLE_DTO =
+            "SELECT new edu.univ.scientometrics.dto.ArticleDTO(" +
+                    "a.id, r.id, r.name, a.title, a.authors, a.publicationDate, a.abstractText, " +
+                    "a.link, a.keywords, a.citedBy, a.snippet) " +
+                    "FROM ArticleEntity a JOIN a.researcher r";
+
+    /**
+     * Constructor expression for the keyword index: ID, researcher ID and
+     * keywords only
+     */
+    private static final String SELECT_ARTICLE_KEYWORDS =
+            "SELECT new edu.univ.scientometrics.dto.ArticleKeywords(a.id, a.researcher.id, a.keywords) " +
+                    "FROM ArticleEntity a";
+
+    /**
+     * Rows between persistence context clears while streaming
+     */
+    private static final int STREAM_CLEAR_INTERVAL = 1000;
+
+    /**
+     * FULLTEXT index behind the article search; MATCH must name exactly
+     * the indexed columns
+     */
+    private static final String FULLTEXT_INDEX = "ft_articles_text";
+    private static final String FULLTEXT_MATCH =
+            "MATCH(a.title, a.abstract, a.keywords) AGAINST (:query IN BOOLEAN MODE)";
+
+    /**
+     * MySQL upsert keyed on uk_researcher_title_fingerprint; the incoming
+     * row is referenced through the row alias "new" (MySQL 8.0.19+).
+     * ON DUPLICATE KEY UPDATE assignments run left to right and later ones see
+     * earlier results, so content_hash is compared first and overwritten last.
+     * A row whose values all stay the same is not written (0 rows affected).
+     */
+    private static final String UPSERT_SQL =
+            "INSERT INTO articles (id, researcher_id, title, title_fingerprint, authors, publication_date, " +
+                    "abstract, link, keywords, cited_by, snippet, content_hash, created_at, updated_at) " +
+                    "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?) AS new " +
+                    "ON DUPLICATE KEY UPDATE " +
+                    "cited_by = IF(content_hash <=> new.content_hash, cited_by, new.cited_by), " +
+                    "snippet = IF(content_hash <=> new.content_hash, snippet, new.snippet), " +
+                    "updated_at = IF(content_hash <=> new.content_hash, updated_at, new.updated_at), " +
+                    "content_hash = new.content_hash";
+
     /**
      * JPA EntityManager injected by Spring
      * Handles all persistence operations
@@ -36,6 +104,12 @@ public class ArticleRepositoryImpl implements ArticleRepository {
     @PersistenceContext
     private EntityManager entityManager;
 
+    /**
+     * Articles persisted between flushes in saveAll; same as the JDBC batch size
+     */
+    @Value("${spring.jpa.properties.hibernate.jdbc.batch_size:" + ArticleEntity.ALLOCATION_SIZE + "}")
+    private int batchSize = ArticleEntity.ALLOCATION_SIZE;
+
     /**
      * Saves or updates an article in the database.
      *
@@ -58,6 +132,234 @@ public class ArticleRepositoryImpl implements ArticleRepository {
         }
     }
 
+    /**
+     * Persists new articles in batches.
+     *
+     * With a sequence-generated ID Hibernate queues the INSERTs and sends
+     * them as one JDBC batch per flush (hibernate.jdbc.batch_size); the
+     * MySQL driver rewrites each batch into a multi-row INSERT when
+     * rewriteBatchedStatements is enabled. Detaching each batch after its
+     * flush keeps the persistence context from growing with the harvest;
+     * only these articles are detached, so other entities the caller has
+     * loaded in the same transaction stay managed.
+     *
+     * @param articles New articles to insert
+     * @return The articles with IDs populated (detached)
+     */
+    @Override
+    @Transactional
+    public List<ArticleEntity> saveAll(List<ArticleEntity> articles) {
+        for (int from = 0; from < articles.size(); from += batchSize) {
+            List<ArticleEntity> batch = articles.subList(from, Math.min(from + batchSize, articles.size()));
+            batch.forEach(entityManager::persist);
+            entityManager.flush();
+            batch.forEach(entityManager::detach);
+        }
+        return articles;
+    }
+
+    /**
+     * Sends the upserts as JDBC batches of batchSize rows; with
+     * rewriteBatchedStatements each batch becomes one multi-row statement.
+     *
+     * Articles already stored are looked up first (one query on the unique
+     * key) and keep their ID. Only the others draw an ID, from the same
+     * pooled sequence generator Hibernate uses for persist, so both paths
+     * share one ID space and refreshes consume no IDs. An ID is skipped
+     * only when a concurrent save inserts the same article in between.
+     *
+     * @param articles Articles to insert or refresh
+     */
+    @Override
+    @Transactional
+    public void upsertAll(List<ArticleEntity> articles) {
+        if (articles.isEmpty()) {
+            return;
+        }
+
+        SharedSessionContractImplementor session = entityManager.unwrap(SharedSessionContractImplementor.class);
+        BeforeExecutionGenerator idGenerator = (BeforeExecutionGenerator) session.getFactory()
+                .getMappingMetamodel()
+                .getEntityDescriptor(ArticleEntity.class)
+                .getGenerator();
+
+        // Pending entity changes (e.g. a new researcher) must reach the database first
+        entityManager.flush();
+
+        Map<String, Long> storedIds = findIdsByFingerprint(articles);
+        List<Long> ids = new ArrayList<>(articles.size());
+        for (ArticleEntity article : articles) {
+            Long storedId = storedIds.get(fingerprintKey(
+                    article.getResearcher().getId(), TitleFingerprints.of(article.getTitle())));
+            ids.add(storedId != null
+                    ? storedId
+                    : (Long) idGenerator.generate(session, article, null, EventType.INSERT));
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        entityManager.unwrap(Session.class).doWork(connection -> {
+            try (PreparedStatement statement = connection.prepareStatement(UPSERT_SQL)) {
+                int pending = 0;
+                for (int i = 0; i < articles.size(); i++) {
+                    ArticleEntity article = articles.get(i);
+
+                    statement.setLong(1, ids.get(i));
+                    statement.setLong(2, article.getResearcher().getId());
+                    statement.setString(3, article.getTitle());
+                    statement.setString(4, TitleFingerprints.of(article.getTitle()));
+                    statement.setString(5, article.getAuthors());
+                    statement.setString(6, article.getPublicationDate());
+                    statement.setString(7, article.getAbstractText());
+                    statement.setString(8, article.getLink());
+                    statement.setString(9, article.getKeywords());
+                    statement.setObject(10, article.getCitedBy(), Types.INTEGER);
+                    statement.setString(11, article.getSnippet());
+                    statement.setString(12, article.computeContentHash());
+                    statement.setObject(13, now);
+                    statement.setObject(14, now);
+                    statement.addBatch();
+
+                    if (++pending == batchSize) {
+                        statement.executeBatch();
+                        pending = 0;
+                    }
+                }
+                if (pending > 0) {
+                    statement.executeBatch();
+                }
+            }
+        });
+    }
+
+    /**
+     * Maps researcher + title fingerprint to the ID of the stored article,
+     * for the articles of an upsert batch that are already stored.
+     */
+    private Map<String, Long> findIdsByFingerprint(List<ArticleEntity> articles) {
+        Set<Long> researcherIds = new HashSet<>();
+        Set<String> fingerprints = new HashSet<>();
+        for (ArticleEntity article : articles) {
+            researcherIds.add(article.getResearcher().getId());
+            fingerprints.add(TitleFingerprints.of(article.getTitle()));
+        }
+
+        String jpql = "SELECT a.researcher.id, a.titleFingerprint, a.id FROM ArticleEntity a " +
+                "WHERE a.researcher.id IN :researcherIds AND a.titleFingerprint IN :fingerprints";
+        List<Object[]> rows = entityManager.createQuery(jpql, Object[].class)
+                .setParameter("researcherIds", researcherIds)
+                .setParameter("fingerprints", fingerprints)
+                .getResultList();
+
+        Map<String, Long> ids = new HashMap<>();
+        for (Object[] row : rows) {
+            ids.put(fingerprintKey((Long) row[0], (String) row[1]), (Long) row[2]);
+        }
+        return ids;
+    }
+
+    private static String fingerprintKey(Long researcherId, String fingerprint) {
+        return researcherId + ":" + fingerprint;
+    }
+
+    /**
+     * Raises next_val of the emulated sequence table so the next block
+     * of IDs starts above MAX(id).
+     */
+    @Override
+    @Transactional
+    public void alignIdSequence() {
+        entityManager.createNativeQuery(
+                        "UPDATE article_seq SET next_val = GREATEST(next_val, " +
+                                "(SELECT COALESCE(MAX(id), 0) FROM articles) + :allocationSize + 1)")
+                .setParameter("allocationSize", ArticleEntity.ALLOCATION_SIZE)
+                .executeUpdate();
+    }
+
+    /**
+     * Looks the index up in information_schema and adds it with ALTER TABLE.
+     * InnoDB does not allow concurrent writes while a FULLTEXT index is
+     * added (LOCK=SHARED at best), and the first one on a table also adds
+     * the hidden FTS_DOC_ID column, which rebuilds the whole table.
+     */
+    @Override
+    @Transactional
+    public boolean ensureFullTextIndex() {
+        Number existing = (Number) entityManager.createNativeQuery(
+                        "SELECT COUNT(*) FROM information_schema.statistics " +
+                                "WHERE table_schema = DATABASE() AND table_name = 'articles' " +
+                                "AND index_name = :indexName")
+                .setParameter("indexName", FULLTEXT_INDEX)
+                .getSingleResult();
+        if (existing.longValue() > 0) {
+            return false;
+        }
+
+        entityManager.createNativeQuery(
+                        "ALTER TABLE articles ADD FULLTEXT INDEX " + FULLTEXT_INDEX + " (title, abstract, keywords)")
+                .executeUpdate();
+        return true;
+    }
+
+    /**
+     * Native query, since JPQL has no MATCH ... AGAINST. The relevance
+     * score is computed once in the select list and reused for ordering;
+     * publication_date holds a four-digit year, so years compare as text.
+     */
+    @Override
+    public List<ArticleDTO> searchFullText(String booleanQuery, Long researcherId,
+                                           Integer yearFrom, Integer yearTo, int offset, int limit) {
+        StringBuilder sql = new StringBuilder(
+                "SELECT a.id, r.id, r.name, a.title, a.authors, a.publication_date, a.abstract, a.link, " +
+                        "a.keywords, a.cited_by, a.snippet, " +
+                        FULLTEXT_MATCH + " AS relevance " +
+                        "FROM articles a JOIN researchers r ON r.id = a.researcher_id " +
+                        "WHERE " + FULLTEXT_MATCH);
+        if (researcherId != null) {
+            sql.append(" AND a.researcher_id = :researcherId");
+        }
+        if (yearFrom != null) {
+            sql.append(" AND a.publication_date >= :yearFrom");
+        }
+        if (yearTo != null) {
+            sql.append(" AND a.publication_date <= :yearTo");
+        }
+        sql.append(" ORDER BY relevance DESC, a.id DESC");
+
+        Query query = entityManager.createNativeQuery(sql.toString());
+        query.setParameter("query", booleanQuery);
+        if (researcherId != null) {
+            query.setParameter("researcherId", researcherId);
+        }
+        if (yearFrom != null) {
+            query.setParameter("yearFrom", String.valueOf(yearFrom));
+        }
+        if (yearTo != null) {
+            query.setParameter("yearTo", String.valueOf(yearTo));
+        }
+        query.setFirstResult(offset);
+        query.setMaxResults(limit);
+
+        @SuppressWarnings("unchecked")
+        List<Object[]> rows = query.getResultList();
+        List<ArticleDTO> articles = new ArrayList<>(rows.size());
+        for (Object[] row : rows) {
+            articles.add(new ArticleDTO(
+                    ((Number) row[0]).longValue(),
+                    ((Number) row[1]).longValue(),
+                    (String) row[2],
+                    (String) row[3],
+                    (String) row[4],
+                    (String) row[5],
+                    (String) row[6],
+                    (String) row[7],
+                    (String) row[8],
+                    row[9] == null ? null : ((Number) row[9]).intValue(),
+                    (String) row[10]
+            ));
+        }
+        return articles;
+    }
+
     /**
      * Retrieves all articles using JPQL query.
      *
@@ -70,6 +372,93 @@ public class ArticleRepositoryImpl implements ArticleRepository {
         return query.getResultList();
     }
 
+    /**
+     * Retrieves a page of articles after a (cited_by, id) key.
+     *
+     * Both columns are sorted descending so MySQL reads idx_cited_by_id
+     * backwards and stops after limit rows. NULL counts sort last in
+     * descending order, so once the key reaches them only NULLs follow.
+     *
+     * @return Article DTOs of the page ordered by cited_by DESC, id DESC
+     */
+    @Override
+    public List<ArticleDTO> findPageByCitations(Integer afterCitedBy, Long afterId, int limit) {
+        String order = " ORDER BY a.citedBy DESC, a.id DESC";
+        TypedQuery<ArticleDTO> query;
+
+        if (afterId == null) {
+            query = entityManager.createQuery(SELECT_ARTICLE_DTO + order, ArticleDTO.class);
+        } else if (afterCitedBy == null) {
+            query = entityManager.createQuery(SELECT_ARTICLE_DTO +
+                    " WHERE a.citedBy IS NULL AND a.id < :afterId" + order, ArticleDTO.class);
+            query.setParameter("afterId", afterId);
+        } else {
+            query = entityManager.createQuery(SELECT_ARTICLE_DTO +
+                    " WHERE a.citedBy < :afterCitedBy " +
+                    "OR (a.citedBy = :afterCitedBy AND a.id < :afterId) " +
+                    "OR a.citedBy IS NULL" + order, ArticleDTO.class);
+            query.setParameter("afterCitedBy", afterCitedBy);
+            query.setParameter("afterId", afterId);
+        }
+
+        query.setMaxResults(limit);
+        return query.getResultList();
+    }
+
+    /**
+     * Streams all articles through a MySQL streaming result set (fetch size
+     * Integer.MIN_VALUE makes Connector/J read rows one at a time instead
+     * of buffering the whole result). The researcher is fetched in the same
+     * query, and the persistence context is cleared every
+     * STREAM_CLEAR_INTERVAL rows so streamed entities can be collected.
+     *
+     * @return Lazy stream of articles in ID order
+     */
+    @Override
+    public Stream<ArticleEntity> streamAll() {
+        String jpql = "SELECT a FROM ArticleEntity a JOIN FETCH a.researcher ORDER BY a.id";
+        Stream<ArticleEntity> rows = entityManager.createQuery(jpql, ArticleEntity.class)
+                .setHint(HibernateHints.HINT_FETCH_SIZE, Integer.MIN_VALUE)
+                .setHint(HibernateHints.HINT_READ_ONLY, true)
+                .getResultStream();
+
+        long[] streamed = {0};
+        return rows.peek(article -> {
+            // The current article is fully loaded, so it stays readable once detached
+            if (++streamed[0] % STREAM_CLEAR_INTERVAL == 0) {
+                entityManager.clear();
+            }
+        });
+    }
+
+    /**
+     * Streams keyword rows through a MySQL streaming result set; the
+     * constructor expression loads no entities, so nothing accumulates in
+     * the persistence context.
+     *
+     * @return Lazy stream of article keywords in ID order
+     */
+    @Override
+    public Stream<ArticleKeywords> streamKeywords() {
+        return entityManager.createQuery(SELECT_ARTICLE_KEYWORDS + " ORDER BY a.id", ArticleKeywords.class)
+                .setHint(HibernateHints.HINT_FETCH_SIZE, Integer.MIN_VALUE)
+                .getResultStream();
+    }
+
+    /**
+     * Reads a researcher's keyword rows through idx_researcher_id.
+     *
+     * @param researcherId The researcher's ID
+     * @return Article keywords in ID order
+     */
+    @Override
+    public List<ArticleKeywords> findKeywordsByResearcherId(Long researcherId) {
+        String jpql = SELECT_ARTICLE_KEYWORDS + " WHERE a.researcher.id = :researcherId ORDER BY a.id";
+        TypedQuery<ArticleKeywords> query = entityManager.createQuery(jpql, ArticleKeywords.class);
+        query.setParameter("researcherId", researcherId);
+        return query.getResultList();
+    }
+
     /**
      * Finds a single article by its primary key.
      *
@@ -98,6 +487,87 @@ public class ArticleRepositoryImpl implements ArticleRepository {
         return query.getResultList();
     }
 
+    /**
+     * Projects a researcher's articles straight into DTOs, ordered like
+     * findByResearcherId.
+     *
+     * @param researcherId The researcher's ID
+     * @return List of article DTOs (empty if none found)
+     */
+    @Override
+    public List<ArticleDTO> findDTOsByResearcherId(Long researcherId) {
+        String jpql = SELECT_ARTICLE_DTO + " WHERE r.id = :researcherId ORDER BY a.citedBy DESC";
+        TypedQuery<ArticleDTO> query = entityManager.createQuery(jpql, ArticleDTO.class);
+        query.setParameter("researcherId", researcherId);
+        return query.getResultList();
+    }
+
+    /**
+     * Projects only the fingerprint column for a researcher.
+     *
+     * @param researcherId The researcher's ID
+     * @return Set of fingerprints (empty if none found)
+     */
+    @Override
+    public Set<String> findTitleFingerprintsByResearcherId(Long researcherId) {
+        String jpql = "SELECT a.titleFingerprint FROM ArticleEntity a " +
+                "WHERE a.researcher.id = :researcherId AND a.titleFingerprint IS NOT NULL";
+        TypedQuery<String> query = entityManager.createQuery(jpql, String.class);
+        query.setParameter("researcherId", researcherId);
+        return new HashSet<>(query.getResultList());
+    }
+
+    /**
+     * Fills in missing fingerprints for one batch of articles, reading only
+     * ID, researcher and title and writing with bulk JPQL updates.
+     *
+     * @param afterId Last article ID processed by the previous batch
+     * @param batchSize Maximum number of articles to process
+     * @return Highest article ID processed, or -1 when nothing was left
+     */
+    @Override
+    @Transactional
+    public long backfillTitleFingerprints(long afterId, int batchSize) {
+        String jpql = "SELECT a.id, a.researcher.id, a.title FROM ArticleEntity a " +
+                "WHERE a.titleFingerprint IS NULL AND a.id > :afterId ORDER BY a.id";
+        List<Object[]> rows = entityManager.createQuery(jpql, Object[].class)
+                .setParameter("afterId", afterId)
+                .setMaxResults(batchSize)
+                .getResultList();
+
+        if (rows.isEmpty()) {
+            return -1;
+        }
+
+        // Fingerprints already taken by the researchers in this batch
+        Set<Long> researcherIds = new HashSet<>();
+        for (Object[] row : rows) {
+            researcherIds.add((Long) row[1]);
+        }
+        Map<Long, Set<String>> taken = new HashMap<>();
+        entityManager.createQuery("SELECT a.researcher.id, a.titleFingerprint FROM ArticleEntity a " +
+                        "WHERE a.researcher.id IN :researcherIds AND a.titleFingerprint IS NOT NULL", Object[].class)
+                .setParameter("researcherIds", researcherIds)
+                .getResultList()
+                .forEach(row -> taken.computeIfAbsent((Long) row[0], id -> new HashSet<>()).add((String) row[1]));
+
+        String update = "UPDATE ArticleEntity a SET a.titleFingerprint = :fingerprint WHERE a.id = :id";
+        long lastId = afterId;
+        for (Object[] row : rows) {
+            Long id = (Long) row[0];
+            String fingerprint = TitleFingerprints.of((String) row[2]);
+
+            if (taken.computeIfAbsent((Long) row[1], researcherId -> new HashSet<>()).add(fingerprint)) {
+                entityManager.createQuery(update)
+                        .setParameter("fingerprint", fingerprint)
+                        .setParameter("id", id)
+                        .executeUpdate();
+            }
+            lastId = id;
+        }
+        return lastId;
+    }
+
     /**
      * Counts total articles in database using aggregate query.
      *
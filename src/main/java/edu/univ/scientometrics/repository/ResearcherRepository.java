@@ -1,6 +1,8 @@
 package edu.univ.scientometrics.repository;
 
+import edu.univ.scientometrics.dto.ResearcherDTO;
 import edu.univ.scientometrics.entity.ResearcherEntity;
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
@@ -35,6 +37,19 @@ public interface ResearcherRepository {
      */
     List<ResearcherEntity> findAll();
 
+    /**
+     * Retrieves one page of researchers ordered by name, then ID.
+     *
+     * Keyset pagination: the page starts strictly after the given sort key
+     * and is read from idx_name (which InnoDB extends with the ID).
+     *
+     * @param afterName Name of the last researcher of the previous page
+     * @param afterId ID of the last researcher of the previous page, or null for the first page
+     * @param limit Maximum number of researchers to return
+     * @return Researcher DTOs of the page, in order (no entities loaded)
+     */
+    List<ResearcherDTO> findPageByName(String afterName, Long afterId, int limit);
+
     /**
      * Finds a researcher by primary key.
      *
@@ -52,6 +67,26 @@ public interface ResearcherRepository {
      */
     Optional<ResearcherEntity> findByAuthorId(String authorId);
 
+    /**
+     * Finds a researcher by exact normalized name (see ResearcherNames),
+     * using idx_normalized_name. When several legacy rows share the name
+     * the oldest one is returned.
+     *
+     * @param name Researcher name, normalized before matching
+     * @return Optional with researcher if found
+     */
+    Optional<ResearcherEntity> findByNormalizedName(String name);
+
+    /**
+     * Fills in the normalized name of researchers saved before the column
+     * existed, in one batch.
+     *
+     * @param afterId Only researchers with a larger ID are processed
+     * @param batchSize Maximum number of researchers to process
+     * @return ID of the last researcher processed, or -1 when none were left
+     */
+    long backfillNormalizedNames(long afterId, int batchSize);
+
     /**
      * Finds researchers by name (partial match).
      *
@@ -60,6 +95,15 @@ public interface ResearcherRepository {
      */
     List<ResearcherEntity> findByNameContaining(String name);
 
+    /**
+     * Finds researchers not updated since a cutoff, least recently updated first.
+     *
+     * @param updatedBefore Only researchers updated before this time are returned
+     * @param limit Maximum number of researchers to return
+     * @return Stale researchers ordered by updated_at
+     */
+    List<ResearcherEntity> findStale(LocalDateTime updatedBefore, int limit);
+
     /**
      * Counts total researchers in database.
      *
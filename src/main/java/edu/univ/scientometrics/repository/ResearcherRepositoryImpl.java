@@ -1,13 +1,18 @@
 package edu.univ.scientometrics.repository;
 
+import edu.univ.scientometrics.dto.ResearcherDTO;
 import edu.univ.scientometrics.entity.ResearcherEntity;
+import edu.univ.scientometrics.util.ResearcherNames;
 import jakarta.persistence.EntityManager;
 import jakarta.persistence.PersistenceContext;
 import jakarta.persistence.TypedQuery;
 import org.springframework.stereotype.Repository;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 /**
@@ -23,9 +28,27 @@ import java.util.Optional;
 @Transactional(readOnly = true)
 public class ResearcherRepositoryImpl implements ResearcherRepository {
 
+    /**
+     * Normalized names remembered by the name -> ID cache
+     */
+    private static final int NAME_CACHE_SIZE = 10_000;
+
     @PersistenceContext
     private EntityManager entityManager;
 
+    /**
+     * LRU cache of normalized name -> researcher ID (guarded by itself).
+     * An entry is checked against the loaded researcher before use, so a
+     * rename or delete that bypassed this repository cannot return the
+     * wrong researcher. Entries are evicted by key, never by scanning.
+     */
+    private final Map<String, Long> idsByNormalizedName = new LinkedHashMap<>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, Long> eldest) {
+            return size() > NAME_CACHE_SIZE;
+        }
+    };
+
     /**
      * Saves or updates researcher in database.
      * Uses persist for new entities, merge for existing ones.
@@ -33,6 +56,7 @@ public class ResearcherRepositoryImpl implements ResearcherRepository {
     @Override
     @Transactional
     public ResearcherEntity save(ResearcherEntity researcher) {
+        evictCachedName(researcher.getNormalizedName());
         if (researcher.getId() == null) {
             entityManager.persist(researcher);
             return researcher;
@@ -51,6 +75,31 @@ public class ResearcherRepositoryImpl implements ResearcherRepository {
         return query.getResultList();
     }
 
+    /**
+     * Retrieves a page of researchers after a (name, id) key, projected
+     * into DTOs by a constructor expression.
+     */
+    @Override
+    public List<ResearcherDTO> findPageByName(String afterName, Long afterId, int limit) {
+        String select = "SELECT new edu.univ.scientometrics.dto.ResearcherDTO(" +
+                "r.id, r.name, r.authorId, r.affiliations, r.citedBy, r.email) FROM ResearcherEntity r";
+        String order = " ORDER BY r.name, r.id";
+        TypedQuery<ResearcherDTO> query;
+
+        if (afterId == null) {
+            query = entityManager.createQuery(select + order, ResearcherDTO.class);
+        } else {
+            query = entityManager.createQuery(select +
+                    " WHERE r.name > :afterName OR (r.name = :afterName AND r.id > :afterId)" + order,
+                    ResearcherDTO.class);
+            query.setParameter("afterName", afterName);
+            query.setParameter("afterId", afterId);
+        }
+
+        query.setMaxResults(limit);
+        return query.getResultList();
+    }
+
     /**
      * Finds researcher by primary key.
      */
@@ -74,6 +123,74 @@ public class ResearcherRepositoryImpl implements ResearcherRepository {
         return results.isEmpty() ? Optional.empty() : Optional.of(results.get(0));
     }
 
+    /**
+     * Resolves the name through the cache first; a cached ID costs a
+     * primary-key lookup (often served by the persistence context).
+     */
+    @Override
+    public Optional<ResearcherEntity> findByNormalizedName(String name) {
+        String normalized = ResearcherNames.normalize(name);
+        if (normalized.isEmpty()) {
+            return Optional.empty();
+        }
+
+        Long cachedId;
+        synchronized (idsByNormalizedName) {
+            cachedId = idsByNormalizedName.get(normalized);
+        }
+        if (cachedId != null) {
+            ResearcherEntity cached = entityManager.find(ResearcherEntity.class, cachedId);
+            if (cached != null && normalized.equals(cached.getNormalizedName())) {
+                return Optional.of(cached);
+            }
+            evictCachedName(normalized);
+        }
+
+        String jpql = "SELECT r FROM ResearcherEntity r WHERE r.normalizedName = :normalizedName ORDER BY r.id";
+        List<ResearcherEntity> results = entityManager.createQuery(jpql, ResearcherEntity.class)
+                .setParameter("normalizedName", normalized)
+                .setMaxResults(1)
+                .getResultList();
+        if (results.isEmpty()) {
+            return Optional.empty();
+        }
+
+        ResearcherEntity researcher = results.get(0);
+        synchronized (idsByNormalizedName) {
+            idsByNormalizedName.put(normalized, researcher.getId());
+        }
+        return Optional.of(researcher);
+    }
+
+    /**
+     * Batch of the startup backfill; one transaction per batch.
+     */
+    @Override
+    @Transactional
+    public long backfillNormalizedNames(long afterId, int batchSize) {
+        String jpql = "SELECT r.id, r.name FROM ResearcherEntity r " +
+                "WHERE r.normalizedName IS NULL AND r.id > :afterId ORDER BY r.id";
+        List<Object[]> rows = entityManager.createQuery(jpql, Object[].class)
+                .setParameter("afterId", afterId)
+                .setMaxResults(batchSize)
+                .getResultList();
+
+        if (rows.isEmpty()) {
+            return -1;
+        }
+
+        String update = "UPDATE ResearcherEntity r SET r.normalizedName = :normalizedName WHERE r.id = :id";
+        long lastId = afterId;
+        for (Object[] row : rows) {
+            lastId = (Long) row[0];
+            entityManager.createQuery(update)
+                    .setParameter("normalizedName", ResearcherNames.normalize((String) row[1]))
+                    .setParameter("id", lastId)
+                    .executeUpdate();
+        }
+        return lastId;
+    }
+
     /**
      * Finds researchers by partial name match.
      * Uses LIKE clause for flexible searching.
@@ -86,6 +203,21 @@ public class ResearcherRepositoryImpl implements ResearcherRepository {
         return query.getResultList();
     }
 
+    /**
+     * Finds stale researchers via idx_updated_at. Rows without an
+     * updated_at (legacy data) count as the stalest.
+     */
+    @Override
+    public List<ResearcherEntity> findStale(LocalDateTime updatedBefore, int limit) {
+        String jpql = "SELECT r FROM ResearcherEntity r " +
+                "WHERE r.updatedAt IS NULL OR r.updatedAt < :updatedBefore " +
+                "ORDER BY r.updatedAt";
+        TypedQuery<ResearcherEntity> query = entityManager.createQuery(jpql, ResearcherEntity.class);
+        query.setParameter("updatedBefore", updatedBefore);
+        query.setMaxResults(limit);
+        return query.getResultList();
+    }
+
     /**
      * Counts total researchers using aggregate query.
      */
@@ -103,6 +235,7 @@ public class ResearcherRepositoryImpl implements ResearcherRepository {
     @Override
     @Transactional
     public void delete(ResearcherEntity researcher) {
+        evictCachedName(researcher.getNormalizedName());
         if (entityManager.contains(researcher)) {
             entityManager.remove(researcher);
         } else {
@@ -118,7 +251,22 @@ public class ResearcherRepositoryImpl implements ResearcherRepository {
     public void deleteById(Long id) {
         ResearcherEntity researcher = entityManager.find(ResearcherEntity.class, id);
         if (researcher != null) {
+            evictCachedName(researcher.getNormalizedName());
             entityManager.remove(researcher);
         }
     }
-}
\ No newline at end of file
+
+    /**
+     * Drops the cache entry of a normalized name. An entry left behind under
+     * a researcher's previous name is harmless: it fails the name check on
+     * its next lookup and is evicted then.
+     */
+    private void evictCachedName(String normalizedName) {
+        if (normalizedName == null) {
+            return;
+        }
+        synchronized (idsByNormalizedName) {
+            idsByNormalizedName.remove(normalizedName);
+        }
+    }
+}
@@ -2,7 +2,26 @@ package edu.univ.scientometrics.service;
 
 import edu.univ.scientometrics.model.ApiResponseRecord;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 
 public interface ApiClient {
     ApiResponseRecord get(Map<String, String> parameters);
-}
\ No newline at end of file
+
+    /**
+     * Non-blocking variant of {@link #get(Map)}.
+     *
+     * The default implementation runs the blocking call on the caller's
+     * thread and wraps the outcome; clients backed by a non-blocking
+     * transport should override it.
+     *
+     * @param parameters Request parameters
+     * @return Future completed with the response, or exceptionally with ApiException
+     */
+    default CompletableFuture<ApiResponseRecord> getAsync(Map<String, String> parameters) {
+        try {
+            return CompletableFuture.completedFuture(get(parameters));
+        } catch (RuntimeException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+}
@@ -0,0 +1,45 @@
+package edu.univ.scientometrics.service;
+
+import edu.univ.scientometrics.exception.ApiException;
+import edu.univ.scientometrics.exception.RateLimitExceededException;
+
+import java.util.concurrent.CompletionException;
+
+/**
+ * Classification of ApiClient failures shared by the resilience decorators.
+ */
+final class ApiFailures {
+
+    private ApiFailures() {
+        throw new UnsupportedOperationException("Utility class cannot be instantiated");
+    }
+
+    /**
+     * Strips the CompletionException wrapper added by CompletableFuture stages.
+     */
+    static Throwable unwrap(Throwable error) {
+        return error instanceof CompletionException && error.getCause() != null
+                ? error.getCause()
+                : error;
+    }
+
+    /**
+     * Whether a failure indicates a temporary upstream problem, i.e. the same
+     * request may succeed later: SerpApi 429/5xx responses and transport
+     * errors (mapped to 503/504 by GoogleScholarApiClient). Parse errors,
+     * interruptions, client errors and local rate-limit rejections are not.
+     */
+    static boolean isTransient(Throwable error) {
+        Throwable cause = unwrap(error);
+        if (!(cause instanceof ApiException apiException)
+                || cause instanceof RateLimitExceededException) {
+            return false;
+        }
+        return switch (apiException.getStatusCode()) {
+            case 429, 502, 503, 504 -> true;
+            // An upstream 500 carries no cause; parse errors and interruptions do
+            case 500 -> apiException.getCause() == null;
+            default -> false;
+        };
+    }
+}
@@ -0,0 +1,89 @@
+package edu.univ.scientometrics.service;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import edu.univ.scientometrics.model.ApiResponseRecord;
+import edu.univ.scientometrics.model.PublicationRecord;
+import edu.univ.scientometrics.model.SearchMetadata;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.List;
+
+/**
+ * Decodes SerpApi JSON responses into ApiResponseRecord with Jackson's
+ * streaming parser.
+ *
+ * Only the top-level fields the application uses (search_metadata,
+ * organic_results, error) are bound; every other subtree (pagination,
+ * related_searches, resources, ...) is skipped token by token without
+ * being materialized. Reading from an InputStream or byte array also
+ * avoids building an intermediate String of the whole body.
+ */
+public class ApiResponseDecoder {
+
+    private static final TypeReference<List<PublicationRecord>> PUBLICATION_LIST =
+            new TypeReference<>() {};
+
+    private final ObjectMapper objectMapper;
+
+    public ApiResponseDecoder(ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper;
+    }
+
+    /**
+     * Decodes a response body while it is being read.
+     *
+     * @param body Response body stream (not closed by this method)
+     * @return Decoded response
+     * @throws IOException if the body is not valid JSON or cannot be read
+     */
+    public ApiResponseRecord decode(InputStream body) throws IOException {
+        try (JsonParser parser = objectMapper.getFactory().createParser(body)) {
+            return decode(parser);
+        }
+    }
+
+    /**
+     * Decodes a fully received response body.
+     *
+     * @param body Response body bytes (UTF-8 JSON)
+     * @return Decoded response
+     * @throws IOException if the body is not valid JSON
+     */
+    public ApiResponseRecord decode(byte[] body) throws IOException {
+        try (JsonParser parser = objectMapper.getFactory().createParser(body)) {
+            return decode(parser);
+        }
+    }
+
+    private ApiResponseRecord decode(JsonParser parser) throws IOException {
+        if (parser.nextToken() != JsonToken.START_OBJECT) {
+            throw new IOException("Expected JSON object at start of API response");
+        }
+
+        SearchMetadata searchMetadata = null;
+        List<PublicationRecord> organicResults = null;
+        String error = null;
+
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.currentName();
+            JsonToken value = parser.nextToken();
+
+            if (value == JsonToken.VALUE_NULL) {
+                continue;
+            }
+
+            switch (field) {
+                case "search_metadata" -> searchMetadata = objectMapper.readValue(parser, SearchMetadata.class);
+                case "organic_results" -> organicResults = objectMapper.readValue(parser, PUBLICATION_LIST);
+                case "error" -> error = parser.getValueAsString();
+                default -> parser.skipChildren();
+            }
+        }
+
+        return new ApiResponseRecord(searchMetadata, organicResults, error);
+    }
+}
@@ -0,0 +1,152 @@
+package edu.univ.scientometrics.service;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import edu.univ.scientometrics.dto.ArticleDTO;
+import edu.univ.scientometrics.entity.ArticleEntity;
+import edu.univ.scientometrics.repository.ArticleRepository;
+import edu.univ.scientometrics.util.DataMapper;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+/**
+ * Writes every stored article to an output stream as it is read from the
+ * database.
+ *
+ * Articles are streamed from ArticleRepository.streamAll and serialized one
+ * by one, so memory use does not grow with the table and the first bytes
+ * are sent as soon as the first row arrives.
+ *
+ * Formats:
+ * - NDJSON: one ArticleDTO JSON object per line
+ * - CSV: RFC 4180, with a header row
+ */
+@Service
+public class ArticleExportService {
+
+    public enum Format {
+        NDJSON("application/x-ndjson", "ndjson"),
+        CSV("text/csv", "csv");
+
+        private final String contentType;
+        private final String extension;
+
+        Format(String contentType, String extension) {
+            this.contentType = contentType;
+            this.extension = extension;
+        }
+
+        public String getContentType() {
+            return contentType;
+        }
+
+        public String getExtension() {
+            return extension;
+        }
+    }
+
+    private static final String[] CSV_HEADER = {
+            "id", "researcher_id", "researcher_name", "title", "authors", "publication_date",
+            "abstract", "link", "keywords", "cited_by", "snippet"
+    };
+
+    private final ArticleRepository articleRepository;
+
+    /**
+     * Compact, single-line JSON regardless of the web layer's indent-output;
+     * output is flushed when the generator's buffer fills, not per row
+     */
+    private final ObjectMapper objectMapper = new ObjectMapper()
+            .setSerializationInclusion(JsonInclude.Include.NON_NULL)
+            .disable(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+
+    public ArticleExportService(ArticleRepository articleRepository) {
+        this.articleRepository = articleRepository;
+    }
+
+    /**
+     * Writes all articles in the given format. The output stream is flushed
+     * but not closed.
+     *
+     * @param format Output format
+     * @param out Destination, typically the HTTP response body
+     * @return Number of articles written
+     * @throws IOException if writing to the destination fails
+     */
+    @Transactional(readOnly = true)
+    public long export(Format format, OutputStream out) throws IOException {
+        try (Stream<ArticleEntity> articles = articleRepository.streamAll()) {
+            Iterator<ArticleDTO> rows = articles.map(DataMapper::toArticleDTO).iterator();
+            return format == Format.CSV ? writeCsv(rows, out) : writeNdjson(rows, out);
+        }
+    }
+
+    private long writeNdjson(Iterator<ArticleDTO> rows, OutputStream out) throws IOException {
+        long count = 0;
+        JsonGenerator generator = objectMapper.getFactory().createGenerator(out);
+        generator.setRootValueSeparator(new SerializedString("\n"));
+        generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+
+        while (rows.hasNext()) {
+            objectMapper.writeValue(generator, rows.next());
+            count++;
+        }
+        if (count > 0) {
+            generator.writeRaw('\n');
+        }
+        generator.flush();
+        return count;
+    }
+
+    private long writeCsv(Iterator<ArticleDTO> rows, OutputStream out) throws IOException {
+        long count = 0;
+        Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+        writeCsvRow(writer, (Object[]) CSV_HEADER);
+
+        while (rows.hasNext()) {
+            ArticleDTO article = rows.next();
+            writeCsvRow(writer,
+                    article.id(), article.researcherId(), article.researcherName(), article.title(),
+                    article.authors(), article.publicationDate(), article.abstractText(), article.link(),
+                    article.keywords(), article.citedBy(), article.snippet());
+            count++;
+        }
+        writer.flush();
+        return count;
+    }
+
+    private static void writeCsvRow(Writer writer, Object... values) throws IOException {
+        for (int i = 0; i < values.length; i++) {
+            if (i > 0) {
+                writer.write(',');
+            }
+            if (values[i] != null) {
+                writer.write(csvField(values[i].toString()));
+            }
+        }
+        writer.write("\r\n");
+    }
+
+    /**
+     * Quotes a field when it contains a delimiter, quote or line break.
+     */
+    static String csvField(String value) {
+        if (value.indexOf(',') < 0 && value.indexOf('"') < 0
+                && value.indexOf('\n') < 0 && value.indexOf('\r') < 0) {
+            return value;
+        }
+        return '"' + value.replace("\"", "\"\"") + '"';
+    }
+}
@@ -0,0 +1,30 @@
+package edu.univ.scientometrics.service;
+
+import edu.univ.scientometrics.repository.ArticleRepository;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+/**
+ * Moves the article ID sequence past existing rows at startup.
+ *
+ * Articles used to take their ID from AUTO_INCREMENT; the sequence that
+ * replaced it starts from its own counter, so without this step the first
+ * batch inserted after an upgrade could reuse an existing ID.
+ */
+@Component
+@Order(0)
+public class ArticleIdSequenceAlignment implements ApplicationRunner {
+
+    private final ArticleRepository articleRepository;
+
+    public ArticleIdSequenceAlignment(ArticleRepository articleRepository) {
+        this.articleRepository = articleRepository;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        articleRepository.alignIdSequence();
+    }
+}
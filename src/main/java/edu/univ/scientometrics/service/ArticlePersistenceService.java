@@ -0,0 +1,263 @@
+package edu.univ.scientometrics.service;
+
+import edu.univ.scientometrics.entity.ArticleEntity;
+import edu.univ.scientometrics.entity.ResearcherEntity;
+import edu.univ.scientometrics.exception.DatabaseException;
+import edu.univ.scientometrics.model.AuthorInfo;
+import edu.univ.scientometrics.model.PublicationRecord;
+import edu.univ.scientometrics.repository.ArticleRepository;
+import edu.univ.scientometrics.repository.ResearcherRepository;
+import edu.univ.scientometrics.util.DataMapper;
+import edu.univ.scientometrics.util.ResearcherNames;
+import edu.univ.scientometrics.util.TitleFingerprints;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * Write phase of "search and save": stores publications that were already
+ * fetched from SerpApi, refreshing the ones stored on earlier runs.
+ *
+ * Kept separate from AuthorServiceImpl so the transaction (and the pooled
+ * connection it holds) covers only resolving the researcher and inserting
+ * the articles, never the network call that produced them.
+ *
+ * SOLID Principles:
+ * - Single Responsibility: Only persists fetched publications
+ */
+@Service
+public class ArticlePersistenceService {
+
+    private final ArticleRepository articleRepository;
+    private final ResearcherRepository researcherRepository;
+    private final ApplicationEventPublisher eventPublisher;
+
+    public ArticlePersistenceService(ArticleRepository articleRepository,
+                                     ResearcherRepository researcherRepository,
+                                     ApplicationEventPublisher eventPublisher) {
+        this.articleRepository = articleRepository;
+        this.researcherRepository = researcherRepository;
+        this.eventPublisher = eventPublisher;
+    }
+
+    /**
+     * Resolves the researcher, then inserts the publications not yet stored
+     * for them and refreshes citation counts and snippets of the ones that
+     * are, in one short transaction.
+     *
+     * @param authorName Author name that was searched
+     * @param publications Publications returned by the search, in rank order
+     * @param maxArticles Maximum number of articles to write
+     * @return Number of articles written (inserted or checked for changes)
+     * @throws DatabaseException if the researcher or articles cannot be saved
+     */
+    @Transactional
+    public int upsertArticles(String authorName, List<PublicationRecord> publications, int maxArticles) {
+        try {
+            ResearcherEntity researcher = findOrCreateResearcher(authorName, publications);
+
+            List<ArticleEntity> articles = distinctArticles(publications, researcher, maxArticles);
+
+            // One batched statement instead of load-then-merge per article
+            articleRepository.upsertAll(articles);
+            eventPublisher.publishEvent(new ArticlesSaved(Set.of(researcher.getId())));
+
+            return articles.size();
+
+        } catch (Exception e) {
+            throw new DatabaseException(
+                    "Failed to save articles to database: " + e.getMessage(),
+                    e
+            );
+        }
+    }
+
+    /**
+     * Stores many searches in one transaction: each researcher is resolved
+     * as in upsertArticles and all their articles go to the database in a
+     * single batched upsert.
+     *
+     * @param saves Searches to store, in arrival order
+     * @return Number of articles written (inserted or checked for changes)
+     * @throws DatabaseException if any researcher or article cannot be saved
+     */
+    @Transactional
+    public int upsertArticles(List<SaveRequest> saves) {
+        try {
+            List<ArticleEntity> articles = new ArrayList<>();
+            Set<Long> researcherIds = new HashSet<>();
+            for (SaveRequest save : saves) {
+                ResearcherEntity researcher = findOrCreateResearcher(save.authorName(), save.publications());
+                articles.addAll(distinctArticles(save.publications(), researcher, save.maxArticles()));
+                researcherIds.add(researcher.getId());
+            }
+
+            articleRepository.upsertAll(articles);
+            eventPublisher.publishEvent(new ArticlesSaved(researcherIds));
+
+            return articles.size();
+
+        } catch (Exception e) {
+            throw new DatabaseException(
+                    "Failed to save articles to database: " + e.getMessage(),
+                    e
+            );
+        }
+    }
+
+    /**
+     * Stores the result of a background refresh for a known researcher:
+     * upserts the publications, records how many were found as the
+     * researcher's recent activity and moves its updated_at to now.
+     *
+     * @param researcherId Researcher that was refreshed
+     * @param publications Publications found since the last sync year
+     * @param maxArticles Maximum number of articles to write
+     * @return Number of articles written (inserted or checked for changes)
+     * @throws DatabaseException if the researcher is gone or cannot be saved
+     */
+    @Transactional
+    public int refreshArticles(Long researcherId, List<PublicationRecord> publications, int maxArticles) {
+        try {
+            ResearcherEntity researcher = researcherRepository.findById(researcherId)
+                    .orElseThrow(() -> new DatabaseException("Researcher not found: " + researcherId));
+
+            List<ArticleEntity> articles = distinctArticles(publications, researcher, maxArticles);
+            articleRepository.upsertAll(articles);
+
+            // Also marks the researcher dirty when the activity level is unchanged
+            researcher.setRecentPublications(publications.size());
+            researcher.setUpdatedAt(LocalDateTime.now());
+            researcherRepository.save(researcher);
+            eventPublisher.publishEvent(new ArticlesSaved(Set.of(researcherId)));
+
+            return articles.size();
+
+        } catch (Exception e) {
+            throw new DatabaseException(
+                    "Failed to refresh articles in database: " + e.getMessage(),
+                    e
+            );
+        }
+    }
+
+    /**
+     * Maps publications to articles in rank order, dropping repeats within
+     * the batch; rows already stored are handled by the upsert.
+     */
+    private static List<ArticleEntity> distinctArticles(List<PublicationRecord> publications,
+                                                        ResearcherEntity researcher,
+                                                        int maxArticles) {
+        Set<String> fingerprints = new HashSet<>();
+        List<ArticleEntity> articles = new ArrayList<>();
+
+        for (PublicationRecord publication : publications) {
+            if (articles.size() >= maxArticles) {
+                break;
+            }
+            if (fingerprints.add(TitleFingerprints.of(publication.title()))) {
+                articles.add(DataMapper.toArticleEntity(publication, researcher));
+            }
+        }
+        return articles;
+    }
+
+    /**
+     * Finds an existing researcher or creates a new one.
+     *
+     * Resolution uses exact, indexed lookups only:
+     * 1. the Google Scholar author ID seen most often in the publications
+     *    among authors whose name matches the searched one, via its unique
+     *    index (co-authors never contribute their ID);
+     * 2. otherwise the normalized name (see ResearcherNames).
+     * If neither matches, a new researcher is created with that author ID.
+     *
+     * @param authorName Author name that was searched
+     * @param publications Publications used to identify the author
+     * @return Researcher entity (existing or newly created)
+     */
+    private ResearcherEntity findOrCreateResearcher(String authorName, List<PublicationRecord> publications) {
+        String authorId = mostFrequentAuthorId(authorName, publications);
+
+        if (authorId != null) {
+            Optional<ResearcherEntity> byAuthorId = researcherRepository.findByAuthorId(authorId);
+            if (byAuthorId.isPresent()) {
+                return byAuthorId.get();
+            }
+        }
+
+        Optional<ResearcherEntity> byName = researcherRepository.findByNormalizedName(authorName);
+        if (byName.isPresent()) {
+            ResearcherEntity researcher = byName.get();
+            // Remember the author ID so the next save resolves through it
+            if (researcher.getAuthorId() == null && authorId != null) {
+                researcher.setAuthorId(authorId);
+            }
+            return researcher;
+        }
+
+        // Researcher not found, proceed to create a new one
+        ResearcherEntity researcher = new ResearcherEntity();
+        researcher.setName(authorName);
+        researcher.setAuthorId(authorId);
+
+        // Save the new researcher entity to the database and return it
+        return researcherRepository.save(researcher);
+    }
+
+    /**
+     * Returns the author ID listed on the most publications for an author
+     * whose name matches the searched name (see ResearcherNames.matches),
+     * or null when none does. Ties go to the ID seen first.
+     */
+    private static String mostFrequentAuthorId(String authorName, List<PublicationRecord> publications) {
+        Map<String, Integer> counts = new LinkedHashMap<>();
+        for (PublicationRecord publication : publications) {
+            if (publication.publicationInfo() == null || publication.publicationInfo().authors() == null) {
+                continue;
+            }
+            for (AuthorInfo author : publication.publicationInfo().authors()) {
+                if (author.authorId() != null && !author.authorId().isBlank()
+                        && ResearcherNames.matches(authorName, author.name())) {
+                    counts.merge(author.authorId(), 1, Integer::sum);
+                }
+            }
+        }
+
+        String best = null;
+        int bestCount = 0;
+        for (Map.Entry<String, Integer> entry : counts.entrySet()) {
+            if (entry.getValue() > bestCount) {
+                best = entry.getKey();
+                bestCount = entry.getValue();
+            }
+        }
+        return best;
+    }
+
+    /**
+     * Publications fetched for one searched author, waiting to be stored.
+     *
+     * @param authorName Author name that was searched
+     * @param publications Publications returned by the search, in rank order
+     * @param maxArticles Maximum number of articles to write
+     */
+    public record SaveRequest(String authorName, List<PublicationRecord> publications, int maxArticles) {}
+
+    /**
+     * Published when articles of the given researchers were written;
+     * listeners bound to the commit (see KeywordIndex) see the new rows.
+     *
+     * @param researcherIds Researchers whose articles were upserted
+     */
+    public record ArticlesSaved(Set<Long> researcherIds) {}
+}
@@ -2,6 +2,8 @@ package edu.univ.scientometrics.service;
 
 import edu.univ.scientometrics.model.PublicationRecord;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.Stream;
 
 public interface AuthorService {
     List<PublicationRecord> searchByAuthor(String authorName);
@@ -18,12 +20,93 @@ public interface AuthorService {
             Integer yearTo
     );
 
+    /**
+     * Non-blocking variant of {@link #searchByAuthor(String)}.
+     *
+     * @param authorName Name of the author to search
+     * @return Future completed with the publications found
+     */
+    CompletableFuture<List<PublicationRecord>> searchByAuthorAsync(String authorName);
+
+    /**
+     * Non-blocking variant of {@link #searchByAuthorWithPagination(String, int, int)}.
+     *
+     * @throws IllegalArgumentException immediately if numResults is out of range
+     */
+    CompletableFuture<List<PublicationRecord>> searchByAuthorWithPaginationAsync(
+            String authorName,
+            int start,
+            int numResults
+    );
+
+    /**
+     * Non-blocking variant of {@link #searchByAuthorWithDateRange(String, Integer, Integer)}.
+     */
+    CompletableFuture<List<PublicationRecord>> searchByAuthorWithDateRangeAsync(
+            String authorName,
+            Integer yearFrom,
+            Integer yearTo
+    );
+
+    /**
+     * Fetches every page of an author's publications.
+     *
+     * Pages of 20 are requested a few at a time in parallel until a page
+     * comes back short or maxResults is reached. Duplicates across page
+     * boundaries are dropped and results keep their rank order.
+     *
+     * @param authorName Name of the author to search
+     * @param maxResults Upper bound on the number of publications returned
+     * @return Future completed with the publications in rank order
+     * @throws IllegalArgumentException immediately if maxResults is out of range
+     */
+    CompletableFuture<List<PublicationRecord>> fetchAllPublicationsAsync(String authorName, int maxResults);
+
+    /**
+     * Streams an author's publications in rank order, fetching pages of 20
+     * lazily as the stream is consumed.
+     *
+     * No request is made until the first element is needed, and a
+     * short-circuiting operation such as limit(n) stops fetching once it
+     * has enough. Iteration ends on a short page or after 1000 results;
+     * duplicates across pages are dropped. Close the stream (e.g. with
+     * try-with-resources) when prefetching.
+     *
+     * @param authorName Name of the author to search
+     * @param prefetch Whether to request the next page in the background while the current one is consumed
+     * @return Lazy stream of publications
+     */
+    Stream<PublicationRecord> streamByAuthor(String authorName, boolean prefetch);
+
+    /**
+     * Streams an author's publications within a year range, fetching pages
+     * of 20 lazily as the stream is consumed, like
+     * {@link #streamByAuthor(String, boolean)} without prefetching.
+     *
+     * @param authorName Name of the author to search
+     * @param yearFrom Earliest publication year (as_ylo), or null
+     * @param yearTo Latest publication year (as_yhi), or null
+     * @return Lazy stream of publications
+     */
+    Stream<PublicationRecord> streamByAuthorWithDateRange(String authorName, Integer yearFrom, Integer yearTo);
+
     /**
      * Searches for author publications and saves them to database.
      *
      * @param authorName Name of the author to search
      * @param maxArticles Maximum number of articles to save
-     * @return List of publications from API
+     * @return Publications fetched (at most maxArticles)
      */
     List<PublicationRecord> searchAndSaveToDatabase(String authorName, int maxArticles);
+
+    /**
+     * Searches for author publications and queues them for saving; the
+     * write happens later, in a batch, on the write-behind writer.
+     *
+     * @param authorName Name of the author to search
+     * @param maxArticles Maximum number of articles to save
+     * @return Publications fetched and queued (at most maxArticles)
+     * @throws edu.univ.scientometrics.exception.ApiException with status 503 if the write-behind queue stays full
+     */
+    List<PublicationRecord> searchAndQueueSave(String authorName, int maxArticles);
 }
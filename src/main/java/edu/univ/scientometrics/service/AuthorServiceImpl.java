@@ -1,41 +1,57 @@
 package edu.univ.scientometrics.service;
 
-import edu.univ.scientometrics.entity.ArticleEntity;
-import edu.univ.scientometrics.entity.ResearcherEntity;
 import edu.univ.scientometrics.exception.ApiException;
-import edu.univ.scientometrics.exception.DatabaseException;
 import edu.univ.scientometrics.model.ApiResponseRecord;
 import edu.univ.scientometrics.model.PublicationRecord;
-import edu.univ.scientometrics.repository.ArticleRepository;
-import edu.univ.scientometrics.repository.ResearcherRepository;
-import edu.univ.scientometrics.util.DataMapper;
-import jakarta.transaction.Transactional;
 import org.springframework.stereotype.Service;
 
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Locale;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 @Service
 public class AuthorServiceImpl implements AuthorService {
 
+    /**
+     * Largest page SerpApi returns for Google Scholar
+     */
+    static final int PAGE_SIZE = 20;
+
+    /**
+     * Google Scholar stops serving results past this offset
+     */
+    static final int MAX_FETCH_ALL_RESULTS = 1000;
+
+    /**
+     * Pages requested concurrently per wave when fetching all pages
+     */
+    private static final int FETCH_ALL_PARALLELISM = 4;
+
     private final ApiClient apiClient;
-    private final ArticleRepository articleRepository;
-    private final ResearcherRepository researcherRepository;
+    private final ArticlePersistenceService articlePersistenceService;
+    private final ResearcherLocks researcherLocks;
+    private final WriteBehindArticleWriter writeBehindArticleWriter;
 
     public AuthorServiceImpl(ApiClient apiClient,
-                             ArticleRepository articleRepository,
-                             ResearcherRepository researcherRepository) {
+                             ArticlePersistenceService articlePersistenceService,
+                             ResearcherLocks researcherLocks,
+                             WriteBehindArticleWriter writeBehindArticleWriter) {
         this.apiClient = apiClient;
-        this.articleRepository = articleRepository;
-        this.researcherRepository = researcherRepository;
+        this.articlePersistenceService = articlePersistenceService;
+        this.researcherLocks = researcherLocks;
+        this.writeBehindArticleWriter = writeBehindArticleWriter;
     }
 
     @Override
     public List<PublicationRecord> searchByAuthor(String authorName) {
-        Map<String, String> params = new HashMap<>();
-        params.put("q", "author:\"" + authorName + "\"");
-        return executeSearch(params);
+        return executeSearch(authorParams(authorName));
     }
 
     @Override
@@ -44,122 +60,216 @@ public class AuthorServiceImpl implements AuthorService {
             int start,
             int numResults
     ) {
-        if (numResults < 1 || numResults > 20) {
-            throw new IllegalArgumentException(
-                    "numResults must be between 1 and 20"
-            );
-        }
+        return executeSearch(paginationParams(authorName, start, numResults));
+    }
 
-        Map<String, String> params = new HashMap<>();
-        params.put("q", "author:\"" + authorName + "\"");
-        params.put("start", String.valueOf(start));
-        params.put("num", String.valueOf(numResults));
+    @Override
+    public List<PublicationRecord> searchByAuthorWithDateRange(
+            String authorName,
+            Integer yearFrom,
+            Integer yearTo
+    ) {
+        return executeSearch(dateRangeParams(authorName, yearFrom, yearTo));
+    }
 
-        return executeSearch(params);
+    @Override
+    public CompletableFuture<List<PublicationRecord>> searchByAuthorAsync(String authorName) {
+        return executeSearchAsync(authorParams(authorName));
     }
 
     @Override
-    public List<PublicationRecord> searchByAuthorWithDateRange(
+    public CompletableFuture<List<PublicationRecord>> searchByAuthorWithPaginationAsync(
+            String authorName,
+            int start,
+            int numResults
+    ) {
+        return executeSearchAsync(paginationParams(authorName, start, numResults));
+    }
+
+    @Override
+    public CompletableFuture<List<PublicationRecord>> searchByAuthorWithDateRangeAsync(
             String authorName,
             Integer yearFrom,
             Integer yearTo
     ) {
-        Map<String, String> params = new HashMap<>();
-        params.put("q", "author:\"" + authorName + "\"");
+        return executeSearchAsync(dateRangeParams(authorName, yearFrom, yearTo));
+    }
 
-        if (yearFrom != null) {
-            params.put("as_ylo", yearFrom.toString());
-        }
-        if (yearTo != null) {
-            params.put("as_yhi", yearTo.toString());
+    @Override
+    public CompletableFuture<List<PublicationRecord>> fetchAllPublicationsAsync(String authorName, int maxResults) {
+        if (maxResults < 1 || maxResults > MAX_FETCH_ALL_RESULTS) {
+            throw new IllegalArgumentException(
+                    "maxResults must be between 1 and " + MAX_FETCH_ALL_RESULTS
+            );
         }
 
-        return executeSearch(params);
+        // The first page is fetched alone: most authors fit on it, so no credits are spent on empty pages
+        return fetchPages(authorName, 0, 1, maxResults, new ArrayList<>(), new HashSet<>());
     }
 
     @Override
-    @Transactional
-    public List<PublicationRecord> searchAndSaveToDatabase(String authorName, int maxArticles) {
-        List<PublicationRecord> publications = searchByAuthor(authorName);
+    public Stream<PublicationRecord> streamByAuthor(String authorName, boolean prefetch) {
+        PublicationPageSpliterator pages = new PublicationPageSpliterator(
+                start -> executeSearch(paginationParams(authorName, start, PAGE_SIZE)),
+                prefetch ? start -> executeSearchAsync(paginationParams(authorName, start, PAGE_SIZE)) : null,
+                PAGE_SIZE,
+                MAX_FETCH_ALL_RESULTS,
+                AuthorServiceImpl::deduplicationKey
+        );
+        return StreamSupport.stream(pages, false).onClose(pages::close);
+    }
 
+    @Override
+    public Stream<PublicationRecord> streamByAuthorWithDateRange(String authorName, Integer yearFrom, Integer yearTo) {
+        PublicationPageSpliterator pages = new PublicationPageSpliterator(
+                start -> {
+                    Map<String, String> params = paginationParams(authorName, start, PAGE_SIZE);
+                    params.putAll(dateRangeParams(authorName, yearFrom, yearTo));
+                    return executeSearch(params);
+                },
+                null,
+                PAGE_SIZE,
+                MAX_FETCH_ALL_RESULTS,
+                AuthorServiceImpl::deduplicationKey
+        );
+        return StreamSupport.stream(pages, false);
+    }
+
+    /**
+     * Runs the SerpApi search first, outside any transaction, so no
+     * database connection is held while waiting on the upstream call; only
+     * the write phase in ArticlePersistenceService is transactional.
+     * Concurrent saves for the same author are serialized by ResearcherLocks.
+     */
+    @Override
+    public List<PublicationRecord> searchAndSaveToDatabase(String authorName, int maxArticles) {
+        List<PublicationRecord> publications = fetchForSave(authorName, maxArticles);
         if (publications.isEmpty()) {
             return publications;
         }
 
-        try {
-            ResearcherEntity researcher = findOrCreateResearcher(authorName, publications);
-
-            List<ArticleEntity> existingArticles = articleRepository.findByResearcherId(researcher.getId());
+        researcherLocks.run(List.of(authorName),
+                () -> articlePersistenceService.upsertArticles(authorName, publications, maxArticles));
+        return publications;
+    }
 
-            int articlesToSave = Math.min(publications.size(), maxArticles);
-            int savedCount = 0;
+    @Override
+    public List<PublicationRecord> searchAndQueueSave(String authorName, int maxArticles) {
+        List<PublicationRecord> publications = fetchForSave(authorName, maxArticles);
+        if (!publications.isEmpty()) {
+            writeBehindArticleWriter.submit(authorName, publications, maxArticles);
+        }
+        return publications;
+    }
 
-            for (int i = 0; i < articlesToSave && savedCount < maxArticles; i++) {
-                PublicationRecord publication = publications.get(i);
+    /**
+     * Fetches the publications a save will write; only as many pages as
+     * maxArticles needs are requested.
+     */
+    private List<PublicationRecord> fetchForSave(String authorName, int maxArticles) {
+        try (Stream<PublicationRecord> stream = streamByAuthor(authorName, false)) {
+            return stream.limit(maxArticles).toList();
+        }
+    }
 
-                boolean alreadyExists = existingArticles.stream()
-                        .anyMatch(existing -> existing.getTitle().equals(publication.title()));
+    /**
+     * Fetches one wave of consecutive pages in parallel, merges them in
+     * page order and continues with the next wave unless a page came back
+     * short or the limit was reached.
+     */
+    private CompletableFuture<List<PublicationRecord>> fetchPages(
+            String authorName,
+            int start,
+            int pages,
+            int maxResults,
+            List<PublicationRecord> collected,
+            Set<String> seen
+    ) {
+        List<CompletableFuture<List<PublicationRecord>>> wave = new ArrayList<>();
+        for (int i = 0; i < pages && start + i * PAGE_SIZE < maxResults; i++) {
+            wave.add(executeSearchAsync(paginationParams(authorName, start + i * PAGE_SIZE, PAGE_SIZE)));
+        }
 
-                if (!alreadyExists) {
-                    ArticleEntity article = DataMapper.toArticleEntity(publication, researcher);
-                    articleRepository.save(article);
-                    savedCount++;
+        return CompletableFuture.allOf(wave.toArray(CompletableFuture[]::new)).thenCompose(ignored -> {
+            for (CompletableFuture<List<PublicationRecord>> page : wave) {
+                List<PublicationRecord> results = page.join();
+                for (PublicationRecord publication : results) {
+                    if (collected.size() < maxResults && isFirstSeen(publication, seen)) {
+                        collected.add(publication);
+                    }
+                }
+                if (results.size() < PAGE_SIZE) {
+                    return CompletableFuture.completedFuture(collected);
                 }
             }
 
-            return publications;
-
-        } catch (Exception e) {
-            throw new DatabaseException(
-                    "Failed to save articles to database: " + e.getMessage(),
-                    e
-            );
-        }
+            int next = start + wave.size() * PAGE_SIZE;
+            if (next >= maxResults || collected.size() >= maxResults) {
+                return CompletableFuture.completedFuture(collected);
+            }
+            return fetchPages(authorName, next, FETCH_ALL_PARALLELISM, maxResults, collected, seen);
+        });
     }
 
     /**
-     * Finds an existing researcher or creates a new one.
-     *
-     * Checks the database for a researcher by name. If not found,
-     * it creates a new researcher entity using the author name and
-     * extracts additional information (like an authorId) from the
-     * list of publications before saving.
-     *
-     * @param authorName Author name to search for
-     * @param publications Publications used to extract author info if creating a new researcher
-     * @return Researcher entity (existing or newly created)
+     * Identifies a publication across pages: by link when present,
+     * otherwise by case-insensitive title. Returns null when there is
+     * neither; such publications cannot be matched and are always kept.
      */
-    private ResearcherEntity findOrCreateResearcher(String authorName, List<PublicationRecord> publications) {
-        // Try to find an existing researcher by name (using the Repository)
-        List<ResearcherEntity> existing = researcherRepository.findByNameContaining(authorName);
-
-        if (!existing.isEmpty()) {
-            // Researcher found, return the first result
-            return existing.get(0);
+    private static String deduplicationKey(PublicationRecord publication) {
+        if (publication.link() != null) {
+            return publication.link();
         }
+        return publication.title() != null && !publication.title().isBlank()
+                ? publication.title().trim().toLowerCase(Locale.ROOT)
+                : null;
+    }
 
-        // Researcher not found, proceed to create a new one
-        ResearcherEntity researcher = new ResearcherEntity();
-        researcher.setName(authorName);
+    private static boolean isFirstSeen(PublicationRecord publication, Set<String> seen) {
+        String key = deduplicationKey(publication);
+        return key == null || seen.add(key);
+    }
 
-        // Extract additional info from the first publication, if available
-        if (!publications.isEmpty() && publications.get(0).publicationInfo() != null) {
-            var pubInfo = publications.get(0).publicationInfo();
+    private Map<String, String> authorParams(String authorName) {
+        Map<String, String> params = new HashMap<>();
+        params.put("q", "author:\"" + authorName + "\"");
+        return params;
+    }
 
-            if (pubInfo.authors() != null && !pubInfo.authors().isEmpty()) {
-                // Attempt to get the authorId from the first author listed
-                var firstAuthor = pubInfo.authors().get(0);
-                researcher.setAuthorId(firstAuthor.authorId());
-            }
+    private Map<String, String> paginationParams(String authorName, int start, int numResults) {
+        if (numResults < 1 || numResults > 20) {
+            throw new IllegalArgumentException(
+                    "numResults must be between 1 and 20"
+            );
         }
 
-        // Save the new researcher entity to the database and return it
-        return researcherRepository.save(researcher);
+        Map<String, String> params = authorParams(authorName);
+        params.put("start", String.valueOf(start));
+        params.put("num", String.valueOf(numResults));
+        return params;
+    }
+
+    private Map<String, String> dateRangeParams(String authorName, Integer yearFrom, Integer yearTo) {
+        Map<String, String> params = authorParams(authorName);
+
+        if (yearFrom != null) {
+            params.put("as_ylo", yearFrom.toString());
+        }
+        if (yearTo != null) {
+            params.put("as_yhi", yearTo.toString());
+        }
+        return params;
     }
 
     private List<PublicationRecord> executeSearch(Map<String, String> params) {
-        ApiResponseRecord response = apiClient.get(params);
+        return extractResults(apiClient.get(params));
+    }
+
+    private CompletableFuture<List<PublicationRecord>> executeSearchAsync(Map<String, String> params) {
+        return apiClient.getAsync(params).thenApply(this::extractResults);
+    }
 
+    private List<PublicationRecord> extractResults(ApiResponseRecord response) {
         if (response.error() != null) {
             throw new ApiException(
                     "API returned error: " + response.error(),
@@ -179,4 +289,4 @@ public class AuthorServiceImpl implements AuthorService {
                 ? response.organicResults()
                 : List.of();
     }
-}
\ No newline at end of file
+}
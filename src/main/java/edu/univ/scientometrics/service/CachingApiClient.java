@@ -0,0 +1,271 @@
+package edu.univ.scientometrics.service;
+
+import edu.univ.scientometrics.config.ApiConfig;
+import edu.univ.scientometrics.model.ApiResponseRecord;
+import edu.univ.scientometrics.model.AuthorInfo;
+import edu.univ.scientometrics.model.PublicationRecord;
+import edu.univ.scientometrics.util.RequestKeys;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+
+/**
+ * ApiClient decorator that keeps recent successful responses in memory.
+ *
+ * Responses are keyed on the normalized parameter map (see RequestKeys),
+ * expire after the configured TTL and are evicted in least-recently-used
+ * order once either the entry limit or the estimated byte limit is reached.
+ * Error responses are never cached. With stale-if-error enabled, an expired
+ * entry is kept for up to max-stale and served if refreshing it fails (for
+ * example while the circuit breaker is open).
+ *
+ * SOLID Principles:
+ * - Open/Closed: Adds caching without modifying GoogleScholarApiClient
+ * - Liskov Substitution: Can be used wherever an ApiClient is expected
+ */
+public class CachingApiClient implements ApiClient {
+
+    private final ApiClient delegate;
+    private final ApiConfig.Cache settings;
+    private final LongSupplier nanoClock;
+
+    /**
+     * Access-ordered map: iteration starts at the least recently used entry
+     */
+    private final LinkedHashMap<String, CachedResponse> entries =
+            new LinkedHashMap<>(16, 0.75f, true);
+    private long totalBytes;
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+    private final LongAdder expirations = new LongAdder();
+    private final LongAdder staleHits = new LongAdder();
+
+    public CachingApiClient(ApiClient delegate, ApiConfig.Cache settings) {
+        this(delegate, settings, System::nanoTime);
+    }
+
+    CachingApiClient(ApiClient delegate, ApiConfig.Cache settings, LongSupplier nanoClock) {
+        this.delegate = delegate;
+        this.settings = settings;
+        this.nanoClock = nanoClock;
+    }
+
+    @Override
+    public ApiResponseRecord get(Map<String, String> parameters) {
+        if (!settings.isEnabled()) {
+            return delegate.get(parameters);
+        }
+
+        String key = RequestKeys.normalize(parameters);
+
+        CachedResponse entry = lookup(key);
+        if (entry != null && isFresh(entry)) {
+            hits.increment();
+            return entry.response();
+        }
+
+        misses.increment();
+        ApiResponseRecord response;
+        try {
+            response = delegate.get(parameters);
+        } catch (RuntimeException e) {
+            if (entry != null && settings.isStaleIfError()) {
+                staleHits.increment();
+                return entry.response();
+            }
+            throw e;
+        }
+
+        if (response != null && response.error() == null) {
+            store(key, response);
+        }
+        return response;
+    }
+
+    @Override
+    public CompletableFuture<ApiResponseRecord> getAsync(Map<String, String> parameters) {
+        if (!settings.isEnabled()) {
+            return delegate.getAsync(parameters);
+        }
+
+        String key = RequestKeys.normalize(parameters);
+
+        CachedResponse entry = lookup(key);
+        if (entry != null && isFresh(entry)) {
+            hits.increment();
+            return CompletableFuture.completedFuture(entry.response());
+        }
+
+        misses.increment();
+        return delegate.getAsync(parameters).handle((response, error) -> {
+            if (error != null) {
+                if (entry != null && settings.isStaleIfError()) {
+                    staleHits.increment();
+                    return entry.response();
+                }
+                throw error instanceof CompletionException completionException
+                        ? completionException
+                        : new CompletionException(error);
+            }
+            if (response != null && response.error() == null) {
+                store(key, response);
+            }
+            return response;
+        });
+    }
+
+    /**
+     * Returns a snapshot of the cache counters.
+     *
+     * @return Current hit/miss/eviction counters and cache size
+     */
+    public Stats stats() {
+        synchronized (entries) {
+            return new Stats(
+                    hits.sum(),
+                    misses.sum(),
+                    evictions.sum(),
+                    expirations.sum(),
+                    staleHits.sum(),
+                    entries.size(),
+                    totalBytes
+            );
+        }
+    }
+
+    /**
+     * Removes every cached response.
+     */
+    public void clear() {
+        synchronized (entries) {
+            entries.clear();
+            totalBytes = 0;
+        }
+    }
+
+    /**
+     * Finds the entry for a key. Expired entries are still returned while
+     * they are within the max-stale window (as a fallback if the upstream
+     * call fails); older ones are dropped.
+     */
+    private CachedResponse lookup(String key) {
+        synchronized (entries) {
+            CachedResponse entry = entries.get(key);
+            if (entry == null || isFresh(entry)) {
+                return entry;
+            }
+
+            long staleFor = nanoClock.getAsLong() - entry.expiresAt();
+            if (!settings.isStaleIfError() || staleFor > settings.getMaxStale().toNanos()) {
+                entries.remove(key);
+                totalBytes -= entry.sizeBytes();
+                expirations.increment();
+                return null;
+            }
+            return entry;
+        }
+    }
+
+    private boolean isFresh(CachedResponse entry) {
+        return entry.expiresAt() - nanoClock.getAsLong() > 0;
+    }
+
+    private void store(String key, ApiResponseRecord response) {
+        long sizeBytes = estimateSize(response);
+        if (sizeBytes > settings.getMaxBytes()) {
+            return;
+        }
+
+        long expiresAt = nanoClock.getAsLong() + settings.getTtl().toNanos();
+
+        synchronized (entries) {
+            CachedResponse previous = entries.put(key, new CachedResponse(response, sizeBytes, expiresAt));
+            if (previous != null) {
+                totalBytes -= previous.sizeBytes();
+                if (!isFresh(previous)) {
+                    // A stale entry kept for stale-if-error, now replaced
+                    expirations.increment();
+                }
+            }
+            totalBytes += sizeBytes;
+
+            Iterator<CachedResponse> eldest = entries.values().iterator();
+            while (eldest.hasNext()
+                    && (entries.size() > settings.getMaxEntries() || totalBytes > settings.getMaxBytes())) {
+                CachedResponse evicted = eldest.next();
+                eldest.remove();
+                totalBytes -= evicted.sizeBytes();
+                evictions.increment();
+            }
+        }
+    }
+
+    /**
+     * Rough heap footprint of a response: two bytes per character of every
+     * string plus a fixed overhead per object. Good enough to bound memory,
+     * much cheaper than serializing the record.
+     */
+    static long estimateSize(ApiResponseRecord response) {
+        long size = 64 + length(response.error());
+        if (response.searchMetadata() != null) {
+            size += 64 + length(response.searchMetadata().id())
+                    + length(response.searchMetadata().status())
+                    + length(response.searchMetadata().createdAt());
+        }
+        if (response.organicResults() != null) {
+            for (PublicationRecord publication : response.organicResults()) {
+                size += 96 + length(publication.title())
+                        + length(publication.link())
+                        + length(publication.snippet());
+                if (publication.publicationInfo() != null) {
+                    size += 48 + length(publication.publicationInfo().summary());
+                    if (publication.publicationInfo().authors() != null) {
+                        for (AuthorInfo author : publication.publicationInfo().authors()) {
+                            size += 48 + length(author.name())
+                                    + length(author.link())
+                                    + length(author.authorId());
+                        }
+                    }
+                }
+                if (publication.inlineLinks() != null) {
+                    size += 128;
+                }
+            }
+        }
+        return size;
+    }
+
+    private static long length(String value) {
+        return value == null ? 0 : 40 + 2L * value.length();
+    }
+
+    private record CachedResponse(ApiResponseRecord response, long sizeBytes, long expiresAt) {}
+
+    /**
+     * Point-in-time cache counters.
+     *
+     * @param hits Lookups served from the cache
+     * @param misses Lookups forwarded to the delegate
+     * @param evictions Entries removed to respect the size limits
+     * @param expirations Entries past their TTL that were dropped or replaced
+     * @param staleHits Expired entries served because the upstream call failed
+     * @param entries Entries currently cached
+     * @param estimatedBytes Estimated heap used by cached responses
+     */
+    public record Stats(
+            long hits,
+            long misses,
+            long evictions,
+            long expirations,
+            long staleHits,
+            int entries,
+            long estimatedBytes
+    ) {}
+}
@@ -0,0 +1,204 @@
+package edu.univ.scientometrics.service;
+
+import edu.univ.scientometrics.config.ApiConfig;
+import edu.univ.scientometrics.exception.ApiException;
+import edu.univ.scientometrics.model.ApiResponseRecord;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+
+/**
+ * ApiClient decorator that stops calling SerpApi while it is failing.
+ *
+ * States:
+ * - CLOSED: calls pass through; the outcome of the last windowSize calls is
+ *   recorded. Once at least minimumCalls are recorded and the share of
+ *   transient failures reaches the threshold, the circuit opens.
+ * - OPEN: calls fail immediately with 503 (no thread waits on a degraded
+ *   upstream) until openDuration has elapsed.
+ * - HALF_OPEN: a limited number of probe calls go through. If they all
+ *   succeed the circuit closes; any transient failure re-opens it.
+ *
+ * Only transient failures (see ApiFailures) count against the upstream;
+ * client errors prove SerpApi is reachable and count as successes.
+ * The response cache in front of this decorator can serve stale data while
+ * the circuit is open.
+ */
+public class CircuitBreakerApiClient implements ApiClient {
+
+    public enum State { CLOSED, OPEN, HALF_OPEN }
+
+    private final ApiClient delegate;
+    private final ApiConfig.CircuitBreaker settings;
+    private final LongSupplier nanoClock;
+
+    // Sliding window of outcomes (guarded by this)
+    private final boolean[] window;
+    private int windowPosition;
+    private int recordedCalls;
+    private int recordedFailures;
+
+    private State state = State.CLOSED;
+    private long openedAt;
+    private int halfOpenPermits;
+    private int halfOpenSuccesses;
+
+    private final LongAdder shortCircuited = new LongAdder();
+    private final LongAdder timesOpened = new LongAdder();
+
+    public CircuitBreakerApiClient(ApiClient delegate, ApiConfig.CircuitBreaker settings) {
+        this(delegate, settings, System::nanoTime);
+    }
+
+    CircuitBreakerApiClient(ApiClient delegate, ApiConfig.CircuitBreaker settings, LongSupplier nanoClock) {
+        this.delegate = delegate;
+        this.settings = settings;
+        this.nanoClock = nanoClock;
+        this.window = new boolean[Math.max(1, settings.getWindowSize())];
+    }
+
+    @Override
+    public ApiResponseRecord get(Map<String, String> parameters) {
+        if (!settings.isEnabled()) {
+            return delegate.get(parameters);
+        }
+
+        acquirePermission();
+        try {
+            ApiResponseRecord response = delegate.get(parameters);
+            onResult(false);
+            return response;
+        } catch (RuntimeException e) {
+            onResult(ApiFailures.isTransient(e));
+            throw e;
+        }
+    }
+
+    @Override
+    public CompletableFuture<ApiResponseRecord> getAsync(Map<String, String> parameters) {
+        if (!settings.isEnabled()) {
+            return delegate.getAsync(parameters);
+        }
+
+        try {
+            acquirePermission();
+        } catch (ApiException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+
+        CompletableFuture<ApiResponseRecord> request;
+        try {
+            request = delegate.getAsync(parameters);
+        } catch (RuntimeException e) {
+            request = CompletableFuture.failedFuture(e);
+        }
+        return request.whenComplete((response, error) ->
+                onResult(error != null && ApiFailures.isTransient(error)));
+    }
+
+    /**
+     * Returns a snapshot of the breaker state.
+     *
+     * @return Current state, failure rate over the window and counters
+     */
+    public synchronized Stats stats() {
+        refreshState();
+        int failureRate = recordedCalls == 0 ? 0 : recordedFailures * 100 / recordedCalls;
+        return new Stats(state, failureRate, recordedCalls, shortCircuited.sum(), timesOpened.sum());
+    }
+
+    private synchronized void acquirePermission() {
+        refreshState();
+
+        if (state == State.OPEN
+                || (state == State.HALF_OPEN && halfOpenPermits <= 0)) {
+            shortCircuited.increment();
+            long remaining = settings.getOpenDuration().toNanos() - (nanoClock.getAsLong() - openedAt);
+            throw new ApiException(
+                    "Circuit breaker is open, SerpApi calls are suspended",
+                    503,
+                    Duration.ofNanos(Math.max(0, remaining))
+            );
+        }
+
+        if (state == State.HALF_OPEN) {
+            halfOpenPermits--;
+        }
+    }
+
+    private synchronized void onResult(boolean failure) {
+        if (state == State.HALF_OPEN) {
+            if (failure) {
+                open();
+            } else if (++halfOpenSuccesses >= settings.getHalfOpenCalls()) {
+                close();
+            }
+            return;
+        }
+
+        if (state == State.OPEN) {
+            // Call started before the circuit opened; nothing to record
+            return;
+        }
+
+        if (recordedCalls == window.length) {
+            if (window[windowPosition]) {
+                recordedFailures--;
+            }
+        } else {
+            recordedCalls++;
+        }
+        window[windowPosition] = failure;
+        if (failure) {
+            recordedFailures++;
+        }
+        windowPosition = (windowPosition + 1) % window.length;
+
+        if (recordedCalls >= settings.getMinimumCalls()
+                && recordedFailures * 100 >= settings.getFailureRateThreshold() * recordedCalls) {
+            open();
+        }
+    }
+
+    private void refreshState() {
+        if (state == State.OPEN
+                && nanoClock.getAsLong() - openedAt >= settings.getOpenDuration().toNanos()) {
+            state = State.HALF_OPEN;
+            halfOpenPermits = settings.getHalfOpenCalls();
+            halfOpenSuccesses = 0;
+        }
+    }
+
+    private void open() {
+        state = State.OPEN;
+        openedAt = nanoClock.getAsLong();
+        timesOpened.increment();
+    }
+
+    private void close() {
+        state = State.CLOSED;
+        recordedCalls = 0;
+        recordedFailures = 0;
+        windowPosition = 0;
+    }
+
+    /**
+     * Point-in-time breaker state.
+     *
+     * @param state Current circuit state
+     * @param failureRate Percentage of transient failures in the window
+     * @param bufferedCalls Calls currently recorded in the window
+     * @param shortCircuited Calls rejected without reaching SerpApi
+     * @param timesOpened Number of transitions to OPEN
+     */
+    public record Stats(
+            State state,
+            int failureRate,
+            int bufferedCalls,
+            long shortCircuited,
+            long timesOpened
+    ) {}
+}
@@ -0,0 +1,433 @@
+package edu.univ.scientometrics.service;
+
+import edu.univ.scientometrics.config.ApiConfig;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.time.Clock;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+import java.util.zip.CRC32;
+
+/**
+ * Append-only key/value store for response bodies, kept in segment files.
+ *
+ * Layout: the directory holds segment-NNNNNN.log files. Each record is
+ *   [key length:int][value length:int][written at:long][key][value][crc32:int]
+ * Only the newest segment is written to; once it reaches maxSegmentBytes it
+ * is sealed and memory-mapped read-only.
+ *
+ * The index (key -> segment, offset, length) lives in memory and is rebuilt
+ * on startup by scanning the segments; a torn record at the end of the last
+ * segment (crash during a write) fails its checksum and is truncated away.
+ *
+ * A background task compacts sealed segments whose live share has dropped
+ * below the threshold (superseded or expired records): live records are
+ * copied into the active segment and the old file is deleted.
+ */
+public class DiskResponseStore implements Closeable {
+
+    private static final Logger log = LoggerFactory.getLogger(DiskResponseStore.class);
+
+    private static final Pattern SEGMENT_NAME = Pattern.compile("segment-(\\d+)\\.log");
+    private static final int HEADER_BYTES = Integer.BYTES * 2 + Long.BYTES;
+    private static final int TRAILER_BYTES = Integer.BYTES;
+
+    private final Path directory;
+    private final ApiConfig.DiskCache settings;
+    private final Clock clock;
+
+    private final ConcurrentHashMap<String, Location> index = new ConcurrentHashMap<>();
+    private final ConcurrentSkipListMap<Integer, Segment> segments = new ConcurrentSkipListMap<>();
+    private volatile Segment active;
+
+    /**
+     * Readers take the read lock; appends, rotation and segment removal take
+     * the write lock.
+     */
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private final ScheduledExecutorService compactor;
+    private final LongAdder compactions = new LongAdder();
+    private final LongAdder compactionFailures = new LongAdder();
+
+    public DiskResponseStore(ApiConfig.DiskCache settings) {
+        this(settings, Clock.systemUTC());
+    }
+
+    DiskResponseStore(ApiConfig.DiskCache settings, Clock clock) {
+        this.directory = Paths.get(settings.getDirectory());
+        this.settings = settings;
+        this.clock = clock;
+
+        try {
+            Files.createDirectories(directory);
+            recover();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to open disk cache in " + directory, e);
+        }
+
+        this.compactor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "serpapi-disk-cache-compactor");
+            thread.setDaemon(true);
+            return thread;
+        });
+        long interval = settings.getCompactionInterval().toMillis();
+        if (interval > 0) {
+            compactor.scheduleWithFixedDelay(this::compactQuietly, interval, interval, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    /**
+     * Reads the value stored under a key.
+     *
+     * @param key Normalized request key
+     * @return Stored value, or null if absent or older than the TTL
+     */
+    public byte[] get(String key) {
+        lock.readLock().lock();
+        try {
+            Location location = index.get(key);
+            if (location == null || isExpired(location.writtenAt())) {
+                return null;
+            }
+            return segments.get(location.segmentId()).read(location.valueOffset(), location.valueLength());
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to read disk cache entry", e);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Appends a value, superseding any earlier value for the key.
+     *
+     * @param key Normalized request key
+     * @param value Bytes to store
+     */
+    public void put(String key, byte[] value) {
+        lock.writeLock().lock();
+        try {
+            append(key, value, clock.millis());
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to write disk cache entry", e);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Rewrites sealed segments whose live share is below the compaction
+     * threshold, or whose records have all expired.
+     *
+     * @return Number of segments removed
+     */
+    public int compact() throws IOException {
+        int removed = 0;
+        for (Segment segment : new ArrayList<>(segments.values())) {
+            if (segment == active) {
+                continue;
+            }
+            boolean allExpired = isExpired(segment.newestWrite);
+            if (allExpired || segment.liveBytes < segment.size * settings.getCompactionThreshold()) {
+                compactSegment(segment);
+                removed++;
+            }
+        }
+        if (removed > 0) {
+            compactions.increment();
+        }
+        return removed;
+    }
+
+    /**
+     * Returns a snapshot of the store size.
+     *
+     * @return Entry, segment and byte counts
+     */
+    public Stats stats() {
+        lock.readLock().lock();
+        try {
+            long bytes = 0;
+            long liveBytes = 0;
+            for (Segment segment : segments.values()) {
+                bytes += segment.size;
+                liveBytes += segment.liveBytes;
+            }
+            return new Stats(index.size(), segments.size(), bytes, liveBytes,
+                    compactions.sum(), compactionFailures.sum());
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        compactor.shutdownNow();
+        lock.writeLock().lock();
+        try {
+            active.channel.force(false);
+            active.channel.close();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void compactSegment(Segment segment) throws IOException {
+        List<String> keys = new ArrayList<>();
+        for (Map.Entry<String, Location> entry : index.entrySet()) {
+            if (entry.getValue().segmentId() == segment.id) {
+                keys.add(entry.getKey());
+            }
+        }
+
+        // Move one record at a time so readers are only paused briefly
+        for (String key : keys) {
+            lock.writeLock().lock();
+            try {
+                Location location = index.get(key);
+                if (location == null || location.segmentId() != segment.id) {
+                    continue;
+                }
+                if (isExpired(location.writtenAt())) {
+                    index.remove(key);
+                    segment.liveBytes -= location.recordBytes();
+                    continue;
+                }
+                byte[] value = segment.read(location.valueOffset(), location.valueLength());
+                append(key, value, location.writtenAt());
+            } finally {
+                lock.writeLock().unlock();
+            }
+        }
+
+        lock.writeLock().lock();
+        try {
+            segments.remove(segment.id);
+            Files.deleteIfExists(segment.path);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void compactQuietly() {
+        try {
+            compact();
+        } catch (IOException | RuntimeException e) {
+            // Retried on the next run; the store stays readable meanwhile
+            compactionFailures.increment();
+            log.warn("Disk cache compaction in {} failed", directory, e);
+        }
+    }
+
+    private void append(String key, byte[] value, long writtenAt) throws IOException {
+        byte[] keyBytes = key.getBytes(StandardCharsets.UTF_8);
+        int recordBytes = HEADER_BYTES + keyBytes.length + value.length + TRAILER_BYTES;
+
+        if (active.size > 0 && active.size + recordBytes > settings.getMaxSegmentBytes()) {
+            rotate();
+        }
+
+        ByteBuffer record = ByteBuffer.allocate(recordBytes);
+        record.putInt(keyBytes.length).putInt(value.length).putLong(writtenAt).put(keyBytes).put(value);
+        CRC32 crc = new CRC32();
+        crc.update(record.array(), 0, recordBytes - TRAILER_BYTES);
+        record.putInt((int) crc.getValue());
+        record.flip();
+
+        long offset = active.size;
+        while (record.hasRemaining()) {
+            active.channel.write(record, offset + record.position());
+        }
+        active.size += recordBytes;
+
+        index(key, new Location(active.id, offset + HEADER_BYTES + keyBytes.length,
+                value.length, recordBytes, writtenAt), active);
+    }
+
+    private void index(String key, Location location, Segment segment) {
+        segment.liveBytes += location.recordBytes();
+        segment.newestWrite = Math.max(segment.newestWrite, location.writtenAt());
+
+        Location previous = index.put(key, location);
+        if (previous != null) {
+            Segment previousSegment = segments.get(previous.segmentId());
+            if (previousSegment != null) {
+                previousSegment.liveBytes -= previous.recordBytes();
+            }
+        }
+    }
+
+    private void rotate() throws IOException {
+        active.seal();
+        active = Segment.create(directory, active.id + 1);
+        segments.put(active.id, active);
+    }
+
+    private void recover() throws IOException {
+        List<Integer> ids = new ArrayList<>();
+        try (Stream<Path> files = Files.list(directory)) {
+            files.forEach(file -> {
+                Matcher matcher = SEGMENT_NAME.matcher(file.getFileName().toString());
+                if (matcher.matches()) {
+                    ids.add(Integer.parseInt(matcher.group(1)));
+                }
+            });
+        }
+        ids.sort(null);
+
+        for (int i = 0; i < ids.size(); i++) {
+            boolean last = i == ids.size() - 1;
+            Segment segment = Segment.open(directory, ids.get(i), last);
+            segments.put(segment.id, segment);
+            scan(segment);
+            if (last) {
+                // Drop a torn tail so the next append starts on a record boundary
+                segment.channel.truncate(segment.size);
+                active = segment;
+            }
+        }
+
+        if (active == null) {
+            active = Segment.create(directory, 1);
+            segments.put(active.id, active);
+        }
+    }
+
+    private void scan(Segment segment) throws IOException {
+        ByteBuffer data = segment.mapped != null
+                ? segment.mapped.duplicate()
+                : segment.channel.map(FileChannel.MapMode.READ_ONLY, 0, segment.channel.size());
+
+        int position = 0;
+        int limit = data.limit();
+        while (limit - position >= HEADER_BYTES + TRAILER_BYTES) {
+            int keyLength = data.getInt(position);
+            int valueLength = data.getInt(position + Integer.BYTES);
+            long writtenAt = data.getLong(position + Integer.BYTES * 2);
+            long recordBytes = (long) HEADER_BYTES + keyLength + valueLength + TRAILER_BYTES;
+            if (keyLength < 0 || valueLength < 0 || recordBytes > limit - position) {
+                break;
+            }
+
+            byte[] header = new byte[(int) recordBytes - TRAILER_BYTES];
+            data.get(position, header);
+            CRC32 crc = new CRC32();
+            crc.update(header);
+            if ((int) crc.getValue() != data.getInt(position + header.length)) {
+                break;
+            }
+
+            String key = new String(header, HEADER_BYTES, keyLength, StandardCharsets.UTF_8);
+            index(key, new Location(segment.id, position + HEADER_BYTES + keyLength,
+                    valueLength, (int) recordBytes, writtenAt), segment);
+            position += (int) recordBytes;
+        }
+        segment.size = position;
+    }
+
+    private boolean isExpired(long writtenAt) {
+        return clock.millis() - writtenAt > settings.getTtl().toMillis();
+    }
+
+    /**
+     * Position of the newest value for a key.
+     */
+    private record Location(int segmentId, long valueOffset, int valueLength, int recordBytes, long writtenAt) {}
+
+    /**
+     * One segment file. The active segment is read and written through its
+     * channel; sealed segments are served from a read-only mapping.
+     */
+    private static final class Segment {
+
+        private final int id;
+        private final Path path;
+        private FileChannel channel;
+        private MappedByteBuffer mapped;
+        private long size;
+        private long liveBytes;
+        private long newestWrite;
+
+        private Segment(int id, Path path) {
+            this.id = id;
+            this.path = path;
+        }
+
+        static Segment create(Path directory, int id) throws IOException {
+            Segment segment = new Segment(id, directory.resolve(String.format("segment-%06d.log", id)));
+            segment.channel = FileChannel.open(segment.path,
+                    StandardOpenOption.CREATE_NEW, StandardOpenOption.READ, StandardOpenOption.WRITE);
+            return segment;
+        }
+
+        static Segment open(Path directory, int id, boolean writable) throws IOException {
+            Segment segment = new Segment(id, directory.resolve(String.format("segment-%06d.log", id)));
+            if (writable) {
+                segment.channel = FileChannel.open(segment.path, StandardOpenOption.READ, StandardOpenOption.WRITE);
+            } else {
+                try (FileChannel channel = FileChannel.open(segment.path, StandardOpenOption.READ)) {
+                    segment.mapped = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+                }
+            }
+            return segment;
+        }
+
+        byte[] read(long offset, int length) throws IOException {
+            byte[] value = new byte[length];
+            if (mapped != null) {
+                mapped.get((int) offset, value);
+                return value;
+            }
+            ByteBuffer target = ByteBuffer.wrap(value);
+            while (target.hasRemaining()) {
+                if (channel.read(target, offset + target.position()) < 0) {
+                    throw new IOException("Unexpected end of segment " + path);
+                }
+            }
+            return value;
+        }
+
+        void seal() throws IOException {
+            channel.force(false);
+            mapped = channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+            channel.close();
+            channel = null;
+        }
+    }
+
+    /**
+     * Point-in-time store size.
+     *
+     * @param entries Keys in the index
+     * @param segments Segment files on disk
+     * @param bytes Total bytes across segments
+     * @param liveBytes Bytes belonging to the newest record of each key
+     * @param compactions Compaction runs that removed at least one segment
+     * @param compactionFailures Scheduled compaction runs that failed
+     */
+    public record Stats(int entries, int segments, long bytes, long liveBytes,
+                        long compactions, long compactionFailures) {}
+}
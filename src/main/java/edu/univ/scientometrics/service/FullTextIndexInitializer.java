@@ -0,0 +1,34 @@
+package edu.univ.scientometrics.service;
+
+import edu.univ.scientometrics.repository.ArticleRepository;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.stereotype.Component;
+
+/**
+ * Creates the FULLTEXT index used by the article search at startup.
+ *
+ * Hibernate's schema update only knows plain B-tree indexes, so the index
+ * over title, abstract and keywords is added here, once, on the first
+ * start after an upgrade.
+ *
+ * Building it holds a write lock on the articles table: reads go on, but
+ * inserts and updates wait until it is done, and the first FULLTEXT index
+ * also rebuilds the table to add FTS_DOC_ID. On a large table, start the
+ * upgraded version in a quiet period or create ft_articles_text beforehand
+ * (see src/database/schema.sql).
+ */
+@Component
+public class FullTextIndexInitializer implements ApplicationRunner {
+
+    private final ArticleRepository articleRepository;
+
+    public FullTextIndexInitializer(ArticleRepository articleRepository) {
+        this.articleRepository = articleRepository;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        articleRepository.ensureFullTextIndex();
+    }
+}
@@ -6,77 +6,249 @@ import edu.univ.scientometrics.exception.ApiException;
 import edu.univ.scientometrics.model.ApiResponseRecord;
 import org.springframework.stereotype.Service;
 
+import java.io.ByteArrayInputStream;
+import java.io.FilterInputStream;
 import java.io.IOException;
+import java.io.InputStream;
 import java.net.URI;
 import java.net.URLEncoder;
 import java.net.http.HttpClient;
 import java.net.http.HttpRequest;
 import java.net.http.HttpResponse;
+import java.net.http.HttpTimeoutException;
 import java.nio.charset.StandardCharsets;
 import java.time.Duration;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.Locale;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.LongAdder;
 import java.util.stream.Collectors;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.InflaterInputStream;
 
+/**
+ * ApiClient that calls SerpApi over HTTP.
+ *
+ * Transport (serpapi.http.*): responses are requested with gzip/deflate
+ * content encoding and decompressed while being decoded, HTTP/2 is
+ * preferred (one multiplexed connection instead of a pool of HTTP/1.1
+ * connections) and the client executor can be sized explicitly.
+ *
+ * The JDK HttpClient does not expose its connection pool, so stats() reports
+ * bytes on the wire vs. decoded bytes and the negotiated protocol of each
+ * response; a high HTTP/2 share means requests are sharing a connection.
+ */
 @Service
 public class GoogleScholarApiClient implements ApiClient {
 
+    private static final String ACCEPT_ENCODING = "gzip, deflate";
+
     private final HttpClient httpClient;
-    private final ObjectMapper objectMapper;
+    private final ApiResponseDecoder decoder;
     private final ApiConfig apiConfig;
 
+    private final LongAdder requests = new LongAdder();
+    private final LongAdder wireBytes = new LongAdder();
+    private final LongAdder decodedBytes = new LongAdder();
+    private final LongAdder compressedResponses = new LongAdder();
+    private final LongAdder http2Responses = new LongAdder();
+    private final LongAdder http1Responses = new LongAdder();
+
     public GoogleScholarApiClient(ApiConfig apiConfig) {
         this.apiConfig = apiConfig;
-        this.httpClient = HttpClient.newBuilder()
-                .connectTimeout(Duration.ofSeconds(10))
-                .build();
-        this.objectMapper = new ObjectMapper();
+        this.httpClient = buildHttpClient(apiConfig.getHttp());
+        this.decoder = new ApiResponseDecoder(new ObjectMapper());
     }
 
     @Override
     public ApiResponseRecord get(Map<String, String> parameters) {
+        HttpResponse<InputStream> response;
         try {
-            String url = buildUrl(parameters);
-
-            HttpRequest request = HttpRequest.newBuilder()
-                    .uri(URI.create(url))
-                    .header("Accept", "application/json")
-                    .GET()
-                    .timeout(Duration.ofSeconds(30))
-                    .build();
-
-            HttpResponse<String> response = httpClient.send(
-                    request,
-                    HttpResponse.BodyHandlers.ofString()
+            response = httpClient.send(
+                    buildRequest(parameters),
+                    HttpResponse.BodyHandlers.ofInputStream()
             );
-
-            if (response.statusCode() != 200) {
-                throw new ApiException(
-                        "API request failed with status: " + response.statusCode(),
-                        response.statusCode()
-                );
-            }
-
-            return objectMapper.readValue(
-                    response.body(),
-                    ApiResponseRecord.class
+        } catch (IOException e) {
+            throw transportFailure(e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ApiException(
+                    "API request was interrupted: " + e.getMessage(),
+                    e,
+                    500
             );
+        }
 
+        try (InputStream body = response.body()) {
+            checkStatus(response);
+            try (InputStream decoded = decodedBody(response, body)) {
+                return decoder.decode(decoded);
+            }
         } catch (IOException e) {
             throw new ApiException(
                     "Failed to parse API response: " + e.getMessage(),
                     e,
                     500
             );
-        } catch (InterruptedException e) {
-            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Sends the request with HttpClient.sendAsync so no caller thread is
+     * held while waiting for SerpApi.
+     *
+     * The body is collected as bytes (reading an InputStream here would
+     * block a thread again), then decompressed and decoded as a stream
+     * without an intermediate String.
+     */
+    @Override
+    public CompletableFuture<ApiResponseRecord> getAsync(Map<String, String> parameters) {
+        return httpClient.sendAsync(buildRequest(parameters), HttpResponse.BodyHandlers.ofByteArray())
+                .handle((response, error) -> {
+                    if (error != null) {
+                        Throwable cause = error instanceof CompletionException && error.getCause() != null
+                                ? error.getCause()
+                                : error;
+                        throw transportFailure(cause);
+                    }
+                    checkStatus(response);
+                    try (InputStream body = decodedBody(response, new ByteArrayInputStream(response.body()))) {
+                        return decoder.decode(body);
+                    } catch (IOException e) {
+                        throw new ApiException(
+                                "Failed to parse API response: " + e.getMessage(),
+                                e,
+                                500
+                        );
+                    }
+                });
+    }
+
+    /**
+     * Returns a snapshot of the transport counters.
+     *
+     * @return Request count, wire vs. decoded bytes and protocol split
+     */
+    public Stats stats() {
+        return new Stats(
+                requests.sum(),
+                wireBytes.sum(),
+                decodedBytes.sum(),
+                compressedResponses.sum(),
+                http2Responses.sum(),
+                http1Responses.sum()
+        );
+    }
+
+    private static HttpClient buildHttpClient(ApiConfig.Http settings) {
+        HttpClient.Builder builder = HttpClient.newBuilder()
+                .connectTimeout(settings.getConnectTimeout())
+                .version(settings.isPreferHttp2() ? HttpClient.Version.HTTP_2 : HttpClient.Version.HTTP_1_1);
+
+        if (settings.getExecutorThreads() > 0) {
+            builder.executor(Executors.newFixedThreadPool(settings.getExecutorThreads(), runnable -> {
+                Thread thread = new Thread(runnable, "serpapi-http");
+                thread.setDaemon(true);
+                return thread;
+            }));
+        }
+        return builder.build();
+    }
+
+    private HttpRequest buildRequest(Map<String, String> parameters) {
+        String url = buildUrl(parameters);
+
+        HttpRequest.Builder builder = HttpRequest.newBuilder()
+                .uri(URI.create(url))
+                .header("Accept", "application/json")
+                .GET()
+                .timeout(apiConfig.getHttp().getRequestTimeout());
+
+        if (apiConfig.getHttp().isCompression()) {
+            builder.header("Accept-Encoding", ACCEPT_ENCODING);
+        }
+        return builder.build();
+    }
+
+    /**
+     * Wraps the raw body so it is counted on the wire, decompressed
+     * according to Content-Encoding and counted again once decoded.
+     */
+    private InputStream decodedBody(HttpResponse<?> response, InputStream raw) throws IOException {
+        requests.increment();
+        if (response.version() == HttpClient.Version.HTTP_2) {
+            http2Responses.increment();
+        } else {
+            http1Responses.increment();
+        }
+
+        InputStream wire = new CountingInputStream(raw, wireBytes);
+        String encoding = response.headers().firstValue("Content-Encoding")
+                .orElse("identity")
+                .trim()
+                .toLowerCase(Locale.ROOT);
+
+        InputStream decompressed = switch (encoding) {
+            case "gzip", "x-gzip" -> new GZIPInputStream(wire, 8192);
+            case "deflate" -> new InflaterInputStream(wire);
+            default -> wire;
+        };
+        if (decompressed != wire) {
+            compressedResponses.increment();
+        }
+        return new CountingInputStream(decompressed, decodedBytes);
+    }
+
+    private void checkStatus(HttpResponse<?> response) {
+        if (response.statusCode() != 200) {
             throw new ApiException(
-                    "API request was interrupted: " + e.getMessage(),
-                    e,
-                    500
+                    "API request failed with status: " + response.statusCode(),
+                    response.statusCode(),
+                    parseRetryAfter(response.headers().firstValue("Retry-After").orElse(null))
             );
         }
     }
 
+    /**
+     * Maps a failure to reach SerpApi (connect error, timeout, reset) to
+     * 504 for timeouts and 503 otherwise, so callers can tell it apart
+     * from an unparseable response.
+     */
+    private ApiException transportFailure(Throwable cause) {
+        int status = cause instanceof HttpTimeoutException ? 504 : 503;
+        return new ApiException(
+                "API request failed: " + cause.getMessage(),
+                cause,
+                status
+        );
+    }
+
+    /**
+     * Parses a Retry-After header given either as delay-seconds or as an
+     * HTTP date.
+     */
+    static Duration parseRetryAfter(String value) {
+        if (value == null || value.isBlank()) {
+            return null;
+        }
+        try {
+            return Duration.ofSeconds(Math.max(0, Long.parseLong(value.trim())));
+        } catch (NumberFormatException e) {
+            try {
+                ZonedDateTime date = ZonedDateTime.parse(value.trim(), DateTimeFormatter.RFC_1123_DATE_TIME);
+                Duration delay = Duration.between(ZonedDateTime.now(date.getZone()), date);
+                return delay.isNegative() ? Duration.ZERO : delay;
+            } catch (DateTimeParseException ignored) {
+                return null;
+            }
+        }
+    }
+
     private String buildUrl(Map<String, String> parameters) {
         parameters.put("engine", apiConfig.getEngine());
         parameters.put("api_key", apiConfig.getApiKey());
@@ -91,4 +263,61 @@ public class GoogleScholarApiClient implements ApiClient {
     private String encode(String value) {
         return URLEncoder.encode(value, StandardCharsets.UTF_8);
     }
-}
\ No newline at end of file
+
+    /**
+     * Adds every byte read through it to a counter.
+     */
+    private static final class CountingInputStream extends FilterInputStream {
+
+        private final LongAdder counter;
+
+        CountingInputStream(InputStream in, LongAdder counter) {
+            super(in);
+            this.counter = counter;
+        }
+
+        @Override
+        public int read() throws IOException {
+            int b = super.read();
+            if (b >= 0) {
+                counter.increment();
+            }
+            return b;
+        }
+
+        @Override
+        public int read(byte[] buffer, int offset, int length) throws IOException {
+            int n = super.read(buffer, offset, length);
+            if (n > 0) {
+                counter.add(n);
+            }
+            return n;
+        }
+
+        @Override
+        public long skip(long n) throws IOException {
+            long skipped = super.skip(n);
+            counter.add(skipped);
+            return skipped;
+        }
+    }
+
+    /**
+     * Point-in-time transport counters.
+     *
+     * @param requests Responses received
+     * @param wireBytes Body bytes as transferred (compressed if encoded)
+     * @param decodedBytes Body bytes after decompression
+     * @param compressedResponses Responses that arrived gzip/deflate encoded
+     * @param http2Responses Responses received over HTTP/2
+     * @param http1Responses Responses received over HTTP/1.1
+     */
+    public record Stats(
+            long requests,
+            long wireBytes,
+            long decodedBytes,
+            long compressedResponses,
+            long http2Responses,
+            long http1Responses
+    ) {}
+}
@@ -0,0 +1,284 @@
+package edu.univ.scientometrics.service;
+
+import edu.univ.scientometrics.config.IngestionConfig;
+import edu.univ.scientometrics.dto.IngestionJobStatus;
+import edu.univ.scientometrics.model.PublicationRecord;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Runs bulk "search and save" jobs for many researchers in the background.
+ *
+ * A job is accepted immediately and its researchers are processed
+ * concurrently through AuthorService.searchAndSaveToDatabase. A semaphore
+ * bounds how many researchers are in flight across all jobs; tasks run on
+ * virtual threads when the JVM provides them (Java 21+), otherwise on a
+ * fixed pool of platform threads of the same size.
+ *
+ * Jobs live in memory only. The most recent ones (ingestion.retained-jobs)
+ * are kept for status queries; older finished jobs are dropped.
+ */
+@Service
+public class IngestionJobService {
+
+    enum ItemState { PENDING, RUNNING, SUCCEEDED, FAILED }
+
+    private final AuthorService authorService;
+    private final IngestionConfig config;
+    private final Clock clock;
+
+    private final ExecutorService executor;
+    private final Semaphore permits;
+
+    /**
+     * Insertion-ordered so the oldest jobs are dropped first (guarded by this)
+     */
+    private final LinkedHashMap<String, Job> jobs = new LinkedHashMap<>();
+
+    @Autowired
+    public IngestionJobService(AuthorService authorService, IngestionConfig config) {
+        this(authorService, config, Clock.systemUTC());
+    }
+
+    IngestionJobService(AuthorService authorService, IngestionConfig config, Clock clock) {
+        this.authorService = authorService;
+        this.config = config;
+        this.clock = clock;
+        this.permits = new Semaphore(Math.max(1, config.getConcurrency()));
+        this.executor = createExecutor(config);
+    }
+
+    /**
+     * Accepts a job and starts processing it in the background.
+     *
+     * @param names Researcher names (blank entries and repeats are ignored)
+     * @param maxArticles Maximum articles to save per researcher
+     * @return Initial status of the job
+     * @throws IllegalArgumentException if no names remain or there are too many
+     */
+    public IngestionJobStatus submit(List<String> names, int maxArticles) {
+        List<String> distinct = names == null ? List.of() : names.stream()
+                .filter(name -> name != null && !name.isBlank())
+                .map(String::trim)
+                .distinct()
+                .toList();
+
+        if (distinct.isEmpty()) {
+            throw new IllegalArgumentException("At least one researcher name is required");
+        }
+        if (distinct.size() > config.getMaxNamesPerJob()) {
+            throw new IllegalArgumentException(
+                    "A job accepts at most " + config.getMaxNamesPerJob() + " names"
+            );
+        }
+        if (maxArticles < 1) {
+            throw new IllegalArgumentException("maxArticles must be at least 1");
+        }
+
+        Job job = new Job(UUID.randomUUID().toString(), clock.instant(), distinct);
+        synchronized (this) {
+            jobs.put(job.id, job);
+            evictFinishedJobs();
+        }
+
+        for (Item item : job.items) {
+            executor.execute(() -> process(job, item, maxArticles));
+        }
+        return job.status(clock.instant());
+    }
+
+    /**
+     * Returns the current status of a job.
+     *
+     * @param jobId Job identifier returned by submit
+     * @return Status, or empty if the job is unknown or was evicted
+     */
+    public Optional<IngestionJobStatus> status(String jobId) {
+        Job job;
+        synchronized (this) {
+            job = jobs.get(jobId);
+        }
+        return Optional.ofNullable(job).map(found -> found.status(clock.instant()));
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    private void process(Job job, Item item, int maxArticles) {
+        try {
+            permits.acquire();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            job.finish(item, ItemState.FAILED, null, "Interrupted before processing", clock.instant());
+            return;
+        }
+
+        try {
+            job.start(item, clock.instant());
+            List<PublicationRecord> publications = authorService.searchAndSaveToDatabase(item.name, maxArticles);
+            job.finish(item, ItemState.SUCCEEDED, publications.size(), null, clock.instant());
+        } catch (RuntimeException e) {
+            job.finish(item, ItemState.FAILED, null, e.getMessage(), clock.instant());
+        } finally {
+            permits.release();
+        }
+    }
+
+    private void evictFinishedJobs() {
+        Iterator<Job> oldest = jobs.values().iterator();
+        while (jobs.size() > config.getRetainedJobs() && oldest.hasNext()) {
+            if (oldest.next().isFinished()) {
+                oldest.remove();
+            }
+        }
+    }
+
+    /**
+     * Virtual-thread-per-task executor when running on Java 21+, looked up
+     * reflectively since the code targets Java 17.
+     */
+    private static ExecutorService createExecutor(IngestionConfig config) {
+        if (config.isVirtualThreads()) {
+            try {
+                return (ExecutorService) Executors.class
+                        .getMethod("newVirtualThreadPerTaskExecutor")
+                        .invoke(null);
+            } catch (ReflectiveOperationException ignored) {
+                // Older JVM: fall back to platform threads
+            }
+        }
+
+        AtomicInteger counter = new AtomicInteger();
+        return Executors.newFixedThreadPool(Math.max(1, config.getConcurrency()), runnable -> {
+            Thread thread = new Thread(runnable, "ingestion-" + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    private static final class Item {
+        private final String name;
+        private ItemState state = ItemState.PENDING;
+        private Integer articlesFound;
+        private String error;
+        private Instant startedAt;
+        private Instant finishedAt;
+
+        private Item(String name) {
+            this.name = name;
+        }
+    }
+
+    /**
+     * Job state; items are updated by worker threads under the job's lock.
+     */
+    private static final class Job {
+        private final String id;
+        private final Instant submittedAt;
+        private final List<Item> items = new ArrayList<>();
+        private Instant startedAt;
+        private int finished;
+
+        private Job(String id, Instant submittedAt, List<String> names) {
+            this.id = id;
+            this.submittedAt = submittedAt;
+            names.forEach(name -> items.add(new Item(name)));
+        }
+
+        synchronized void start(Item item, Instant now) {
+            if (startedAt == null) {
+                startedAt = now;
+            }
+            item.state = ItemState.RUNNING;
+            item.startedAt = now;
+        }
+
+        synchronized void finish(Item item, ItemState state, Integer articlesFound, String error, Instant now) {
+            item.state = state;
+            item.articlesFound = articlesFound;
+            item.error = error;
+            item.finishedAt = now;
+            finished++;
+        }
+
+        synchronized boolean isFinished() {
+            return finished == items.size();
+        }
+
+        synchronized IngestionJobStatus status(Instant now) {
+            int succeeded = 0;
+            int failed = 0;
+            int running = 0;
+            long articlesFound = 0;
+            Instant finishedAt = null;
+            List<IngestionJobStatus.ResearcherStatus> researchers = new ArrayList<>(items.size());
+
+            for (Item item : items) {
+                switch (item.state) {
+                    case SUCCEEDED -> {
+                        succeeded++;
+                        articlesFound += item.articlesFound;
+                    }
+                    case FAILED -> failed++;
+                    case RUNNING -> running++;
+                    default -> { }
+                }
+                if (item.finishedAt != null && (finishedAt == null || item.finishedAt.isAfter(finishedAt))) {
+                    finishedAt = item.finishedAt;
+                }
+                researchers.add(new IngestionJobStatus.ResearcherStatus(
+                        item.name,
+                        item.state.name(),
+                        item.articlesFound,
+                        item.error,
+                        item.startedAt != null && item.finishedAt != null
+                                ? Duration.between(item.startedAt, item.finishedAt).toMillis()
+                                : null
+                ));
+            }
+
+            boolean done = finished == items.size();
+            String state = done ? "COMPLETED" : startedAt == null ? "QUEUED" : "RUNNING";
+
+            double perMinute = 0;
+            Long etaSeconds = null;
+            if (startedAt != null && finished > 0) {
+                long elapsedMillis = Math.max(1, Duration.between(startedAt, done ? finishedAt : now).toMillis());
+                perMinute = finished * 60_000.0 / elapsedMillis;
+                etaSeconds = done ? 0L : Math.round((items.size() - finished) * 60.0 / perMinute);
+            }
+
+            return new IngestionJobStatus(
+                    id,
+                    state,
+                    items.size(),
+                    succeeded,
+                    failed,
+                    running,
+                    articlesFound,
+                    perMinute,
+                    etaSeconds,
+                    submittedAt,
+                    done ? finishedAt : null,
+                    researchers
+            );
+        }
+    }
+}
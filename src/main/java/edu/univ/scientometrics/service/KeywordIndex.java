@@ -0,0 +1,582 @@
+package edu.univ.scientometrics.service;
+
+import edu.univ.scientometrics.dto.ArticleKeywords;
+import edu.univ.scientometrics.dto.KeywordCountDTO;
+import edu.univ.scientometrics.repository.ArticleRepository;
+import edu.univ.scientometrics.util.DataMapper;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.stream.Stream;
+
+/**
+ * In-memory inverted index of article keywords.
+ *
+ * Maps each keyword term (see DataMapper.keywordTerms) to the sorted IDs
+ * of the articles carrying it, held as plain int arrays, and each
+ * researcher to the sorted IDs of their articles with the term IDs of
+ * each. Keyword lookups and a researcher's keyword counts are answered
+ * from memory, without a query.
+ *
+ * The index is built from the articles table at startup and kept current
+ * after every committed save: the saved researchers' keyword rows are
+ * re-read and only the terms that changed are merged into the posting
+ * lists. Posting arrays are never modified once published (an update
+ * replaces them), so readers only hold the read lock to look them up.
+ *
+ * Terms are numbered in a dictionary that only grows; a keyword no longer
+ * used keeps an empty posting list until the next rebuild. Article IDs
+ * must fit in an int; the article sequence is far from that.
+ */
+@Service
+public class KeywordIndex {
+
+    private static final int[] EMPTY = new int[0];
+
+    private final ArticleRepository articleRepository;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    /**
+     * Current index (guarded by lock)
+     */
+    private Postings postings = new Postings();
+
+    /**
+     * Researchers updated while a rebuild is running, or null when none is
+     * (guarded by lock)
+     */
+    private Set<Long> updatedDuringRebuild;
+
+    private final LongAdder rebuilds = new LongAdder();
+    private final LongAdder updates = new LongAdder();
+    private volatile long lastRebuildMillis;
+
+    public KeywordIndex(ArticleRepository articleRepository) {
+        this.articleRepository = articleRepository;
+    }
+
+    /**
+     * Rebuilds the index from the articles table, streaming only ID,
+     * researcher and keywords.
+     *
+     * Saves committed while the table is read are applied to the live
+     * index as usual and carried over into the rebuilt one, so none is
+     * lost to the swap.
+     */
+    @Transactional(readOnly = true)
+    public void rebuild() {
+        long started = System.nanoTime();
+        lock.writeLock().lock();
+        try {
+            updatedDuringRebuild = new HashSet<>();
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        try {
+            Postings rebuilt;
+            try (Stream<ArticleKeywords> rows = articleRepository.streamKeywords()) {
+                rebuilt = Postings.build(rows);
+            }
+
+            lock.writeLock().lock();
+            try {
+                for (Long researcherId : updatedDuringRebuild) {
+                    rebuilt.replaceResearcher(researcherId, postings.articlesOf(researcherId));
+                }
+                postings = rebuilt;
+            } finally {
+                lock.writeLock().unlock();
+            }
+        } finally {
+            lock.writeLock().lock();
+            try {
+                updatedDuringRebuild = null;
+            } finally {
+                lock.writeLock().unlock();
+            }
+        }
+
+        rebuilds.increment();
+        lastRebuildMillis = (System.nanoTime() - started) / 1_000_000;
+    }
+
+    /**
+     * Re-reads the keywords of the saved researchers once their articles
+     * are committed. Runs in its own read-only transaction, since the
+     * saving one has already completed.
+     *
+     * @param event Researchers whose articles were written
+     */
+    @TransactionalEventListener
+    @Transactional(propagation = Propagation.REQUIRES_NEW, readOnly = true)
+    public void onArticlesSaved(ArticlePersistenceService.ArticlesSaved event) {
+        for (Long researcherId : event.researcherIds()) {
+            update(researcherId, articleRepository.findKeywordsByResearcherId(researcherId));
+        }
+    }
+
+    /**
+     * Replaces the indexed articles of a researcher.
+     *
+     * @param researcherId Researcher whose articles are given
+     * @param articles All current articles of the researcher
+     */
+    public void update(Long researcherId, List<ArticleKeywords> articles) {
+        ArticleTerms parsed = ArticleTerms.parse(articles);
+
+        lock.writeLock().lock();
+        try {
+            postings.replaceResearcher(researcherId, parsed);
+            if (updatedDuringRebuild != null) {
+                updatedDuringRebuild.add(researcherId);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+        updates.increment();
+    }
+
+    /**
+     * Empties the index, e.g. after all articles were deleted.
+     */
+    public void clear() {
+        lock.writeLock().lock();
+        try {
+            postings = new Postings();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Counts the articles carrying a keyword.
+     *
+     * @param keyword Keyword, normalized like stored keywords
+     * @return Number of articles with the keyword
+     */
+    public int count(String keyword) {
+        return postingsOf(keyword).length;
+    }
+
+    /**
+     * Returns the IDs of articles carrying a keyword, ascending, starting
+     * after the given ID.
+     *
+     * @param keyword Keyword, normalized like stored keywords
+     * @param afterId Last ID of the previous page (0 for the first page)
+     * @param limit Maximum number of IDs to return
+     * @return Article IDs in ascending order
+     */
+    public List<Long> articleIds(String keyword, long afterId, int limit) {
+        return slice(postingsOf(keyword), afterId, limit);
+    }
+
+    /**
+     * Returns one page of the articles carrying a keyword together with
+     * their total, both taken from the same posting list, so the count
+     * always matches the IDs even while updates are applied.
+     *
+     * @param keyword Keyword, normalized like stored keywords
+     * @param afterId Last ID of the previous page (0 for the first page)
+     * @param limit Maximum number of IDs to return
+     * @return Total count and article IDs in ascending order
+     */
+    public Page page(String keyword, long afterId, int limit) {
+        int[] ids = postingsOf(keyword);
+        return new Page(ids.length, slice(ids, afterId, limit));
+    }
+
+    /**
+     * Returns a researcher's most frequent keywords, most articles first,
+     * ties in alphabetical order.
+     *
+     * @param researcherId The researcher's ID
+     * @param limit Maximum number of keywords to return
+     * @return Keywords with their article counts (empty for unknown researchers)
+     */
+    public List<KeywordCountDTO> topKeywords(Long researcherId, int limit) {
+        List<KeywordCountDTO> counts = new ArrayList<>();
+        lock.readLock().lock();
+        try {
+            // Sorting all term IDs of the researcher turns counting into run lengths
+            Articles articles = postings.byResearcher.getOrDefault(researcherId, Articles.NONE);
+            int total = 0;
+            for (int[] termIds : articles.termIds()) {
+                total += termIds.length;
+            }
+            int[] all = new int[total];
+            int size = 0;
+            for (int[] termIds : articles.termIds()) {
+                System.arraycopy(termIds, 0, all, size, termIds.length);
+                size += termIds.length;
+            }
+            Arrays.sort(all);
+
+            for (int from = 0; from < all.length; ) {
+                int to = from;
+                while (to < all.length && all[to] == all[from]) {
+                    to++;
+                }
+                counts.add(new KeywordCountDTO(postings.terms.get(all[from]), to - from));
+                from = to;
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        return counts.stream()
+                .sorted(Comparator.comparingInt(KeywordCountDTO::articles).reversed()
+                        .thenComparing(KeywordCountDTO::keyword))
+                .limit(limit)
+                .toList();
+    }
+
+    /**
+     * Returns a snapshot of the index size and activity counters.
+     *
+     * @return Terms, articles and postings held, and rebuild/update counts
+     */
+    public Stats stats() {
+        lock.readLock().lock();
+        try {
+            return new Stats(
+                    postings.termCount,
+                    postings.articleCount,
+                    postings.byResearcher.size(),
+                    postings.postingCount,
+                    rebuilds.sum(),
+                    lastRebuildMillis,
+                    updates.sum()
+            );
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private int[] postingsOf(String keyword) {
+        String term = DataMapper.normalizeKeyword(keyword);
+        lock.readLock().lock();
+        try {
+            Integer termId = postings.termIds.get(term);
+            return termId != null ? postings.byTerm.get(termId) : EMPTY;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private static List<Long> slice(int[] ids, long afterId, int limit) {
+        int from = 0;
+        if (afterId > 0) {
+            int position = Arrays.binarySearch(ids, (int) Math.min(afterId, Integer.MAX_VALUE));
+            from = position >= 0 ? position + 1 : -position - 1;
+        }
+
+        int to = (int) Math.min(ids.length, (long) from + limit);
+        List<Long> page = new ArrayList<>(Math.max(0, to - from));
+        for (int i = from; i < to; i++) {
+            page.add((long) ids[i]);
+        }
+        return page;
+    }
+
+    /**
+     * Merges sorted, duplicate-free ID arrays: the result holds the IDs of
+     * current and added that are not in removed.
+     */
+    static int[] merge(int[] current, int[] added, int[] removed) {
+        int[] result = new int[current.length + added.length];
+        int size = 0;
+        int c = 0;
+        int a = 0;
+        int r = 0;
+
+        while (c < current.length || a < added.length) {
+            int next;
+            if (a >= added.length || (c < current.length && current[c] <= added[a])) {
+                next = current[c++];
+                if (a < added.length && added[a] == next) {
+                    a++;
+                }
+            } else {
+                next = added[a++];
+            }
+
+            while (r < removed.length && removed[r] < next) {
+                r++;
+            }
+            if (r < removed.length && removed[r] == next) {
+                continue;
+            }
+            result[size++] = next;
+        }
+        return size == result.length ? result : Arrays.copyOf(result, size);
+    }
+
+    /**
+     * The index data: the term dictionary, term postings and the articles
+     * of each researcher with their term IDs.
+     */
+    private static final class Postings {
+
+        private final Map<String, Integer> termIds = new HashMap<>();
+        private final List<String> terms = new ArrayList<>();
+        private final List<int[]> byTerm = new ArrayList<>();
+        private final Map<Long, Articles> byResearcher = new HashMap<>();
+        private int termCount;
+        private int articleCount;
+        private long postingCount;
+
+        /**
+         * Builds the index from rows in ascending ID order, so every
+         * posting list is appended to in order and needs no sorting.
+         */
+        static Postings build(Stream<ArticleKeywords> rows) {
+            Postings built = new Postings();
+            List<IntList> postingLists = new ArrayList<>();
+            Map<Long, ArticlesBuilder> researchers = new HashMap<>();
+
+            rows.forEach(row -> {
+                int id = Math.toIntExact(row.id());
+                int[] articleTerms = built.intern(DataMapper.keywordTerms(row.keywords()));
+                for (int termId : articleTerms) {
+                    while (postingLists.size() <= termId) {
+                        postingLists.add(new IntList());
+                    }
+                    postingLists.get(termId).add(id);
+                }
+                researchers.computeIfAbsent(row.researcherId(), researcherId -> new ArticlesBuilder())
+                        .add(id, articleTerms);
+            });
+
+            for (int termId = 0; termId < postingLists.size(); termId++) {
+                IntList ids = postingLists.get(termId);
+                built.byTerm.set(termId, ids.toArray());
+                built.postingCount += ids.size;
+                built.termCount++;
+            }
+            researchers.forEach((researcherId, articles) -> {
+                built.byResearcher.put(researcherId, articles.build());
+                built.articleCount += articles.ids.size;
+            });
+            return built;
+        }
+
+        /**
+         * Returns the indexed articles of a researcher with their terms.
+         */
+        ArticleTerms articlesOf(Long researcherId) {
+            Articles articles = byResearcher.getOrDefault(researcherId, Articles.NONE);
+            String[][] articleTerms = new String[articles.ids().length][];
+            for (int i = 0; i < articleTerms.length; i++) {
+                int[] termIds = articles.termIds()[i];
+                articleTerms[i] = new String[termIds.length];
+                for (int t = 0; t < termIds.length; t++) {
+                    articleTerms[i][t] = terms.get(termIds[t]);
+                }
+            }
+            return new ArticleTerms(articles.ids(), articleTerms);
+        }
+
+        /**
+         * Replaces a researcher's articles, touching only the posting
+         * lists of terms that were added or removed.
+         */
+        void replaceResearcher(Long researcherId, ArticleTerms updated) {
+            Articles previous = byResearcher.getOrDefault(researcherId, Articles.NONE);
+            int[][] currentTerms = new int[updated.ids().length][];
+            for (int i = 0; i < currentTerms.length; i++) {
+                currentTerms[i] = intern(updated.terms()[i]);
+            }
+            Articles current = new Articles(updated.ids(), currentTerms);
+
+            // Both ID arrays are walked in ascending order, so every change list comes out sorted
+            Map<Integer, IntList> added = new HashMap<>();
+            Map<Integer, IntList> removed = new HashMap<>();
+            int p = 0;
+            int c = 0;
+            while (p < previous.ids().length || c < current.ids().length) {
+                if (c >= current.ids().length
+                        || (p < previous.ids().length && previous.ids()[p] < current.ids()[c])) {
+                    collect(removed, previous.ids()[p], previous.termIds()[p], EMPTY);
+                    p++;
+                } else if (p >= previous.ids().length || current.ids()[c] < previous.ids()[p]) {
+                    collect(added, current.ids()[c], current.termIds()[c], EMPTY);
+                    c++;
+                } else {
+                    collect(added, current.ids()[c], current.termIds()[c], previous.termIds()[p]);
+                    collect(removed, current.ids()[c], previous.termIds()[p], current.termIds()[c]);
+                    p++;
+                    c++;
+                }
+            }
+
+            Set<Integer> changed = new HashSet<>(added.keySet());
+            changed.addAll(removed.keySet());
+            for (int termId : changed) {
+                int[] before = byTerm.get(termId);
+                int[] after = merge(
+                        before,
+                        toArray(added.get(termId)),
+                        toArray(removed.get(termId)));
+                postingCount += after.length - before.length;
+                if (before.length == 0 && after.length > 0) {
+                    termCount++;
+                } else if (before.length > 0 && after.length == 0) {
+                    termCount--;
+                }
+                byTerm.set(termId, after);
+            }
+
+            articleCount += current.ids().length - previous.ids().length;
+            if (current.ids().length == 0) {
+                byResearcher.remove(researcherId);
+            } else {
+                byResearcher.put(researcherId, current);
+            }
+        }
+
+        /**
+         * Maps terms to their IDs, adding new ones to the dictionary.
+         *
+         * @return Term IDs in ascending order
+         */
+        private int[] intern(String[] articleTerms) {
+            int[] ids = new int[articleTerms.length];
+            for (int i = 0; i < articleTerms.length; i++) {
+                ids[i] = termIds.computeIfAbsent(articleTerms[i], term -> {
+                    terms.add(term);
+                    byTerm.add(EMPTY);
+                    return terms.size() - 1;
+                });
+            }
+            Arrays.sort(ids);
+            return ids;
+        }
+
+        /**
+         * Records the article under each of its terms missing from except.
+         */
+        private static void collect(Map<Integer, IntList> changes, int id, int[] termIds, int[] except) {
+            for (int termId : termIds) {
+                if (Arrays.binarySearch(except, termId) < 0) {
+                    changes.computeIfAbsent(termId, t -> new IntList()).add(id);
+                }
+            }
+        }
+
+        private static int[] toArray(IntList ids) {
+            return ids == null ? EMPTY : ids.toArray();
+        }
+    }
+
+    /**
+     * A researcher's articles: ascending IDs and, at the same position,
+     * the ascending term IDs of each.
+     */
+    private record Articles(int[] ids, int[][] termIds) {
+        static final Articles NONE = new Articles(EMPTY, new int[0][]);
+    }
+
+    /**
+     * A researcher's articles with their terms as strings, in ascending ID
+     * order; independent of any dictionary, so it can move between indexes.
+     */
+    private record ArticleTerms(int[] ids, String[][] terms) {
+
+        static ArticleTerms parse(List<ArticleKeywords> articles) {
+            List<ArticleKeywords> sorted = articles.stream()
+                    .sorted(Comparator.comparingLong(ArticleKeywords::id))
+                    .toList();
+            IntList ids = new IntList();
+            List<String[]> terms = new ArrayList<>(sorted.size());
+            for (ArticleKeywords article : sorted) {
+                int id = Math.toIntExact(article.id());
+                if (ids.size > 0 && ids.values[ids.size - 1] == id) {
+                    continue;
+                }
+                ids.add(id);
+                terms.add(DataMapper.keywordTerms(article.keywords()));
+            }
+            return new ArticleTerms(ids.toArray(), terms.toArray(String[][]::new));
+        }
+    }
+
+    /**
+     * Collects a researcher's articles during a build.
+     */
+    private static final class ArticlesBuilder {
+
+        private final IntList ids = new IntList();
+        private final List<int[]> termIds = new ArrayList<>();
+
+        void add(int id, int[] articleTermIds) {
+            ids.add(id);
+            termIds.add(articleTermIds);
+        }
+
+        Articles build() {
+            return new Articles(ids.toArray(), termIds.toArray(int[][]::new));
+        }
+    }
+
+    /**
+     * Growable list of primitive ints.
+     */
+    private static final class IntList {
+
+        private int[] values = new int[4];
+        private int size;
+
+        void add(int value) {
+            if (size == values.length) {
+                values = Arrays.copyOf(values, size * 2);
+            }
+            values[size++] = value;
+        }
+
+        int[] toArray() {
+            return Arrays.copyOf(values, size);
+        }
+    }
+
+    /**
+     * One page of the articles carrying a keyword.
+     *
+     * @param total Articles carrying the keyword
+     * @param articleIds IDs of the page, ascending
+     */
+    public record Page(int total, List<Long> articleIds) {}
+
+    /**
+     * Point-in-time keyword index figures.
+     *
+     * @param terms Distinct keywords indexed
+     * @param articles Articles indexed
+     * @param researchers Researchers with indexed articles
+     * @param postings Entries over all posting lists
+     * @param rebuilds Full rebuilds from the database
+     * @param lastRebuildMillis Duration of the last rebuild
+     * @param updates Incremental per-researcher updates applied
+     */
+    public record Stats(int terms,
+                        int articles,
+                        int researchers,
+                        long postings,
+                        long rebuilds,
+                        long lastRebuildMillis,
+                        long updates) {}
+}
@@ -0,0 +1,26 @@
+package edu.univ.scientometrics.service;
+
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.stereotype.Component;
+
+/**
+ * Builds the keyword index from the stored articles at startup.
+ *
+ * Until the build finishes, keyword queries see only the articles saved
+ * since the application started.
+ */
+@Component
+public class KeywordIndexInitializer implements ApplicationRunner {
+
+    private final KeywordIndex keywordIndex;
+
+    public KeywordIndexInitializer(KeywordIndex keywordIndex) {
+        this.keywordIndex = keywordIndex;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        keywordIndex.rebuild();
+    }
+}
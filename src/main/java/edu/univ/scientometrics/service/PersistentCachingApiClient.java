@@ -0,0 +1,128 @@
+package edu.univ.scientometrics.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import edu.univ.scientometrics.model.ApiResponseRecord;
+import edu.univ.scientometrics.util.RequestKeys;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * ApiClient decorator that keeps successful responses on disk, so queries
+ * already paid for are served after a restart without spending a credit.
+ *
+ * Sits behind the in-memory CachingApiClient: a memory miss is looked up
+ * here before the request goes upstream. Responses are stored as JSON in
+ * a DiskResponseStore, keyed on the normalized parameter map. A disk
+ * failure never fails the request; it is counted and the call falls
+ * through to the delegate. Without a store (disk cache disabled) every
+ * call passes straight through.
+ */
+public class PersistentCachingApiClient implements ApiClient {
+
+    private final ApiClient delegate;
+    private final DiskResponseStore store;
+    private final ObjectMapper objectMapper;
+    private final ApiResponseDecoder decoder;
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder writes = new LongAdder();
+    private final LongAdder diskErrors = new LongAdder();
+
+    public PersistentCachingApiClient(ApiClient delegate, DiskResponseStore store) {
+        this.delegate = delegate;
+        this.store = store;
+        this.objectMapper = new ObjectMapper();
+        this.decoder = new ApiResponseDecoder(objectMapper);
+    }
+
+    @Override
+    public ApiResponseRecord get(Map<String, String> parameters) {
+        if (store == null) {
+            return delegate.get(parameters);
+        }
+
+        String key = RequestKeys.normalize(parameters);
+
+        ApiResponseRecord cached = read(key);
+        if (cached != null) {
+            return cached;
+        }
+
+        ApiResponseRecord response = delegate.get(parameters);
+        write(key, response);
+        return response;
+    }
+
+    @Override
+    public CompletableFuture<ApiResponseRecord> getAsync(Map<String, String> parameters) {
+        if (store == null) {
+            return delegate.getAsync(parameters);
+        }
+
+        String key = RequestKeys.normalize(parameters);
+
+        ApiResponseRecord cached = read(key);
+        if (cached != null) {
+            return CompletableFuture.completedFuture(cached);
+        }
+
+        return delegate.getAsync(parameters).thenApply(response -> {
+            write(key, response);
+            return response;
+        });
+    }
+
+    /**
+     * Returns a snapshot of the disk cache counters.
+     *
+     * @return Hit/miss/write counters and the store size
+     */
+    public Stats stats() {
+        return new Stats(hits.sum(), misses.sum(), writes.sum(), diskErrors.sum(),
+                store != null ? store.stats() : null);
+    }
+
+    private ApiResponseRecord read(String key) {
+        try {
+            byte[] stored = store.get(key);
+            if (stored != null) {
+                ApiResponseRecord response = decoder.decode(stored);
+                hits.increment();
+                return response;
+            }
+        } catch (IOException | UncheckedIOException e) {
+            diskErrors.increment();
+        }
+        misses.increment();
+        return null;
+    }
+
+    private void write(String key, ApiResponseRecord response) {
+        if (response == null || response.error() != null) {
+            return;
+        }
+        try {
+            store.put(key, objectMapper.writeValueAsBytes(response));
+            writes.increment();
+        } catch (JsonProcessingException | UncheckedIOException e) {
+            diskErrors.increment();
+        }
+    }
+
+    /**
+     * Point-in-time disk cache counters.
+     *
+     * @param hits Requests served from disk
+     * @param misses Requests forwarded to the delegate
+     * @param writes Responses written to disk
+     * @param diskErrors Reads or writes that failed and were skipped
+     * @param store Size of the underlying store (null when disabled)
+     */
+    public record Stats(long hits, long misses, long writes, long diskErrors, DiskResponseStore.Stats store) {}
+}
@@ -0,0 +1,118 @@
+package edu.univ.scientometrics.service;
+
+import edu.univ.scientometrics.model.PublicationRecord;
+
+import java.util.ArrayDeque;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.IntFunction;
+
+/**
+ * Spliterator over an author's publications that fetches result pages on
+ * demand.
+ *
+ * The next page is requested only when the items of the current one have
+ * been consumed, so a short-circuiting stream (limit, findFirst, anyMatch)
+ * spends no credits on pages it never reads. Iteration ends on a short
+ * page or at the result cap. Duplicates across page boundaries are
+ * dropped.
+ *
+ * With prefetching, the page after a full page is requested asynchronously
+ * as soon as that page arrives, hiding its latency from the consumer at
+ * the cost of at most one unused page when the consumer stops early.
+ */
+final class PublicationPageSpliterator extends Spliterators.AbstractSpliterator<PublicationRecord> {
+
+    private final IntFunction<List<PublicationRecord>> fetchPage;
+    private final IntFunction<CompletableFuture<List<PublicationRecord>>> prefetchPage;
+    private final int pageSize;
+    private final int maxResults;
+    private final Function<PublicationRecord, String> deduplicationKey;
+
+    private final ArrayDeque<PublicationRecord> buffer = new ArrayDeque<>();
+    private final Set<String> seen = new HashSet<>();
+    private int nextStart;
+    private boolean exhausted;
+    private CompletableFuture<List<PublicationRecord>> prefetched;
+
+    /**
+     * @param fetchPage Fetches the page starting at an offset, blocking
+     * @param prefetchPage Fetches the page starting at an offset asynchronously, or null to disable prefetching
+     * @param pageSize Results per page; a shorter page is the last one
+     * @param maxResults Offset at which no more pages are requested
+     * @param deduplicationKey Identifies a publication across pages (null: never a duplicate)
+     */
+    PublicationPageSpliterator(IntFunction<List<PublicationRecord>> fetchPage,
+                               IntFunction<CompletableFuture<List<PublicationRecord>>> prefetchPage,
+                               int pageSize,
+                               int maxResults,
+                               Function<PublicationRecord, String> deduplicationKey) {
+        super(Long.MAX_VALUE, Spliterator.ORDERED | Spliterator.NONNULL);
+        this.fetchPage = fetchPage;
+        this.prefetchPage = prefetchPage;
+        this.pageSize = pageSize;
+        this.maxResults = maxResults;
+        this.deduplicationKey = deduplicationKey;
+    }
+
+    @Override
+    public boolean tryAdvance(Consumer<? super PublicationRecord> action) {
+        while (buffer.isEmpty()) {
+            if (exhausted) {
+                return false;
+            }
+            loadNextPage();
+        }
+        action.accept(buffer.poll());
+        return true;
+    }
+
+    /**
+     * Abandons a prefetched page the consumer will not read.
+     */
+    void close() {
+        if (prefetched != null) {
+            prefetched.cancel(false);
+            prefetched = null;
+        }
+    }
+
+    private void loadNextPage() {
+        List<PublicationRecord> results = prefetched != null
+                ? join(prefetched)
+                : fetchPage.apply(nextStart);
+        prefetched = null;
+        nextStart += pageSize;
+
+        if (results.size() < pageSize || nextStart >= maxResults) {
+            exhausted = true;
+        } else if (prefetchPage != null) {
+            prefetched = prefetchPage.apply(nextStart);
+        }
+
+        for (PublicationRecord publication : results) {
+            String key = deduplicationKey.apply(publication);
+            if (key == null || seen.add(key)) {
+                buffer.add(publication);
+            }
+        }
+    }
+
+    private static List<PublicationRecord> join(CompletableFuture<List<PublicationRecord>> page) {
+        try {
+            return page.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+}
@@ -0,0 +1,401 @@
+package edu.univ.scientometrics.service;
+
+import edu.univ.scientometrics.config.ApiConfig;
+import edu.univ.scientometrics.exception.ApiException;
+import edu.univ.scientometrics.exception.RateLimitExceededException;
+import edu.univ.scientometrics.model.ApiResponseRecord;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.YearMonth;
+import java.time.ZoneOffset;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.LongSupplier;
+
+/**
+ * ApiClient decorator that keeps outgoing SerpApi traffic within the plan.
+ *
+ * Two limits are enforced before a request reaches the delegate:
+ * - A token bucket (requests per second with a small burst)
+ * - Hourly and monthly credit budgets, in fixed UTC windows
+ *
+ * Calls over the limit are not failed straight away: each caller reserves
+ * the next free slot under a fair lock (so slots are handed out in arrival
+ * order) and waits for it. A call is rejected with HTTP 429 only when the
+ * wait queue is full or the slot lies beyond the configured max wait.
+ *
+ * Sits inside the cache and single-flight decorators, so only requests that
+ * actually spend a credit are counted.
+ *
+ * With serpapi.rate-limit.usage-file set, the credits used in the current
+ * hour and month are written to that file after every admitted request,
+ * outside the admission lock, and read back at startup, so a restart does
+ * not reset the budgets.
+ */
+public class RateLimitingApiClient implements ApiClient {
+
+    private static final Logger log = LoggerFactory.getLogger(RateLimitingApiClient.class);
+
+    private final ApiClient delegate;
+    private final ApiConfig.RateLimit settings;
+    private final Clock clock;
+    private final LongSupplier nanoClock;
+    private final Path usageFile;
+
+    /**
+     * Latest counts not yet written to usageFile, and the lock that keeps
+     * writes in order; both are separate from the admission lock, so
+     * callers never wait for disk I/O to get a slot.
+     */
+    private final AtomicReference<Usage> unsavedUsage = new AtomicReference<>();
+    private final ReentrantLock usageWriteLock = new ReentrantLock();
+
+    private final ReentrantLock lock = new ReentrantLock(true);
+
+    // Token bucket state (guarded by lock)
+    private double storedPermits;
+    private long nextFreeNanos;
+
+    // Budget windows (guarded by lock)
+    private long currentHour = -1;
+    private int usedThisHour;
+    private YearMonth currentMonth;
+    private int usedThisMonth;
+
+    private final AtomicInteger queued = new AtomicInteger();
+    private final LongAdder admitted = new LongAdder();
+    private final LongAdder delayed = new LongAdder();
+    private final LongAdder rejected = new LongAdder();
+
+    public RateLimitingApiClient(ApiClient delegate, ApiConfig.RateLimit settings) {
+        this(delegate, settings, Clock.systemUTC(), System::nanoTime);
+    }
+
+    RateLimitingApiClient(ApiClient delegate, ApiConfig.RateLimit settings,
+                          Clock clock, LongSupplier nanoClock) {
+        this.delegate = delegate;
+        this.settings = settings;
+        this.clock = clock;
+        this.nanoClock = nanoClock;
+        this.storedPermits = settings.getBurst();
+        this.nextFreeNanos = nanoClock.getAsLong();
+        this.usageFile = settings.getUsageFile() == null || settings.getUsageFile().isBlank()
+                ? null
+                : Path.of(settings.getUsageFile());
+        loadUsage();
+    }
+
+    @Override
+    public ApiResponseRecord get(Map<String, String> parameters) {
+        if (!settings.isEnabled()) {
+            return delegate.get(parameters);
+        }
+
+        enterQueue();
+        try {
+            long deadline = nanoClock.getAsLong() + settings.getMaxWait().toNanos();
+            while (true) {
+                Reservation reservation = reserve(deadline);
+                flushUsage();
+                sleep(reservation.delayNanos());
+                if (reservation.granted()) {
+                    break;
+                }
+            }
+        } finally {
+            queued.decrementAndGet();
+        }
+
+        return delegate.get(parameters);
+    }
+
+    @Override
+    public CompletableFuture<ApiResponseRecord> getAsync(Map<String, String> parameters) {
+        if (!settings.isEnabled()) {
+            return delegate.getAsync(parameters);
+        }
+
+        try {
+            enterQueue();
+        } catch (ApiException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+
+        long deadline = nanoClock.getAsLong() + settings.getMaxWait().toNanos();
+        return acquireAsync(deadline)
+                .whenComplete((ignored, error) -> queued.decrementAndGet())
+                .thenCompose(ignored -> delegate.getAsync(parameters));
+    }
+
+    /**
+     * Returns a snapshot of the limiter state.
+     *
+     * @return Counters, queue length and remaining credit budgets
+     */
+    public Stats stats() {
+        lock.lock();
+        try {
+            rollWindows(clock.instant());
+            return new Stats(
+                    admitted.sum(),
+                    delayed.sum(),
+                    rejected.sum(),
+                    queued.get(),
+                    remaining(settings.getHourlyBudget(), usedThisHour),
+                    remaining(settings.getMonthlyBudget(), usedThisMonth)
+            );
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private CompletableFuture<Void> acquireAsync(long deadline) {
+        Reservation reservation;
+        try {
+            reservation = reserve(deadline);
+            flushUsage();
+        } catch (ApiException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+
+        CompletableFuture<Void> delay = reservation.delayNanos() > 0
+                ? CompletableFuture.runAsync(() -> { },
+                        CompletableFuture.delayedExecutor(reservation.delayNanos(), TimeUnit.NANOSECONDS))
+                : CompletableFuture.completedFuture(null);
+
+        return reservation.granted()
+                ? delay
+                : delay.thenCompose(ignored -> acquireAsync(deadline));
+    }
+
+    private void enterQueue() {
+        if (queued.incrementAndGet() > settings.getMaxQueue()) {
+            queued.decrementAndGet();
+            rejected.increment();
+            throw new RateLimitExceededException("Rate limit queue is full, try again later");
+        }
+    }
+
+    /**
+     * Reserves the next request slot.
+     *
+     * Returns a granted reservation (credit consumed, caller sends after the
+     * delay) or, when the credit budget is exhausted until the window
+     * resets, an ungranted one telling the caller to retry after the delay.
+     */
+    private Reservation reserve(long deadline) {
+        lock.lock();
+        try {
+            long now = nanoClock.getAsLong();
+            long remainingWait = deadline - now;
+
+            Instant instant = clock.instant();
+            rollWindows(instant);
+
+            long budgetWait = budgetWaitNanos(instant);
+            if (budgetWait > 0) {
+                if (budgetWait > remainingWait) {
+                    throw reject("SerpApi credit budget exhausted");
+                }
+                return new Reservation(false, budgetWait);
+            }
+
+            long interval = (long) (TimeUnit.SECONDS.toNanos(1) / settings.getRequestsPerSecond());
+            if (now > nextFreeNanos) {
+                storedPermits = Math.min(settings.getBurst(),
+                        storedPermits + (double) (now - nextFreeNanos) / interval);
+                nextFreeNanos = now;
+            }
+
+            // Without a stored permit, the slot is when the missing fraction has refilled
+            long slot = storedPermits >= 1
+                    ? nextFreeNanos
+                    : nextFreeNanos + (long) ((1 - storedPermits) * interval);
+            long wait = slot - now;
+            if (wait > remainingWait) {
+                throw reject("Rate limit wait exceeds " + settings.getMaxWait().toMillis() + " ms");
+            }
+
+            if (storedPermits >= 1) {
+                storedPermits -= 1;
+            } else {
+                storedPermits = 0;
+                nextFreeNanos = slot;
+            }
+
+            usedThisHour++;
+            usedThisMonth++;
+            if (usageFile != null) {
+                unsavedUsage.set(new Usage(currentHour, usedThisHour, currentMonth, usedThisMonth));
+            }
+            admitted.increment();
+            if (wait > 0) {
+                delayed.increment();
+            }
+            return new Reservation(true, wait);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private long budgetWaitNanos(Instant now) {
+        long wait = 0;
+        if (settings.getMonthlyBudget() > 0 && usedThisMonth >= settings.getMonthlyBudget()) {
+            Instant nextMonth = currentMonth.plusMonths(1).atDay(1).atStartOfDay().toInstant(ZoneOffset.UTC);
+            wait = Math.max(wait, nextMonth.toEpochMilli() - now.toEpochMilli());
+        }
+        if (settings.getHourlyBudget() > 0 && usedThisHour >= settings.getHourlyBudget()) {
+            long nextHour = (currentHour + 1) * 3_600_000L;
+            wait = Math.max(wait, nextHour - now.toEpochMilli());
+        }
+        return TimeUnit.MILLISECONDS.toNanos(wait);
+    }
+
+    private void rollWindows(Instant now) {
+        long hour = now.getEpochSecond() / 3600;
+        if (hour != currentHour) {
+            currentHour = hour;
+            usedThisHour = 0;
+        }
+        YearMonth month = YearMonth.from(now.atOffset(ZoneOffset.UTC));
+        if (!month.equals(currentMonth)) {
+            currentMonth = month;
+            usedThisMonth = 0;
+        }
+    }
+
+    /**
+     * Restores the budget windows written by a previous run; rollWindows
+     * discards them if their hour or month is over.
+     */
+    private void loadUsage() {
+        if (usageFile == null || !Files.exists(usageFile)) {
+            return;
+        }
+        Properties usage = new Properties();
+        try (Reader reader = Files.newBufferedReader(usageFile)) {
+            usage.load(reader);
+            currentHour = Long.parseLong(usage.getProperty("hour", "-1"));
+            usedThisHour = Integer.parseInt(usage.getProperty("usedThisHour", "0"));
+            String month = usage.getProperty("month");
+            currentMonth = month != null ? YearMonth.parse(month) : null;
+            usedThisMonth = Integer.parseInt(usage.getProperty("usedThisMonth", "0"));
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to read rate limit usage from " + usageFile, e);
+        } catch (RuntimeException e) {
+            // Unreadable contents: start counting from zero rather than refuse to start
+            log.warn("Ignoring malformed rate limit usage file {}: {}", usageFile, e.toString());
+            currentHour = -1;
+            usedThisHour = 0;
+            currentMonth = null;
+            usedThisMonth = 0;
+        }
+    }
+
+    /**
+     * Writes the latest unsaved counts, outside the admission lock. If
+     * another caller is already writing, it picks the new counts up before
+     * it lets go of the write lock, so the file always ends with the
+     * latest counts. The file is replaced atomically, so a crash mid-write
+     * leaves the previous counts.
+     */
+    private void flushUsage() {
+        while (unsavedUsage.get() != null && usageWriteLock.tryLock()) {
+            try {
+                Usage usage = unsavedUsage.getAndSet(null);
+                if (usage != null) {
+                    writeUsage(usage);
+                }
+            } finally {
+                usageWriteLock.unlock();
+            }
+        }
+    }
+
+    private void writeUsage(Usage usage) {
+        Properties properties = new Properties();
+        properties.setProperty("hour", String.valueOf(usage.hour()));
+        properties.setProperty("usedThisHour", String.valueOf(usage.usedThisHour()));
+        properties.setProperty("month", usage.month().toString());
+        properties.setProperty("usedThisMonth", String.valueOf(usage.usedThisMonth()));
+        try {
+            Path directory = usageFile.toAbsolutePath().getParent();
+            Files.createDirectories(directory);
+            Path temp = Files.createTempFile(directory, "usage", ".tmp");
+            try (Writer writer = Files.newBufferedWriter(temp)) {
+                properties.store(writer, "SerpApi credits used");
+            }
+            Files.move(temp, usageFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            // The request is already admitted; only the count across restarts is at stake
+            log.warn("Failed to write rate limit usage to {}: {}", usageFile, e.toString());
+        }
+    }
+
+    private ApiException reject(String reason) {
+        rejected.increment();
+        return new RateLimitExceededException(reason + ", try again later");
+    }
+
+    private static int remaining(int budget, int used) {
+        return budget > 0 ? Math.max(0, budget - used) : -1;
+    }
+
+    private static void sleep(long nanos) {
+        if (nanos <= 0) {
+            return;
+        }
+        try {
+            TimeUnit.NANOSECONDS.sleep(nanos);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ApiException(
+                    "API request was interrupted: " + e.getMessage(),
+                    e,
+                    500
+            );
+        }
+    }
+
+    private record Reservation(boolean granted, long delayNanos) {}
+
+    /**
+     * Budget window counts at one point in time
+     */
+    private record Usage(long hour, int usedThisHour, YearMonth month, int usedThisMonth) {}
+
+    /**
+     * Point-in-time limiter state.
+     *
+     * @param admitted Requests let through to SerpApi
+     * @param delayed Admitted requests that had to wait for a slot
+     * @param rejected Requests failed with 429 (queue full or wait too long)
+     * @param queued Callers currently waiting for a slot
+     * @param hourlyBudgetRemaining Credits left this hour (-1 if unlimited)
+     * @param monthlyBudgetRemaining Credits left this month (-1 if unlimited)
+     */
+    public record Stats(
+            long admitted,
+            long delayed,
+            long rejected,
+            int queued,
+            int hourlyBudgetRemaining,
+            int monthlyBudgetRemaining
+    ) {}
+}
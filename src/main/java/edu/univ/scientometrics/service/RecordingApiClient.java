@@ -0,0 +1,58 @@
+package edu.univ.scientometrics.service;
+
+import edu.univ.scientometrics.model.ApiResponseRecord;
+import edu.univ.scientometrics.util.RequestKeys;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * ApiClient decorator that saves every successful response as a fixture
+ * (serpapi.mode=record), so it can later be served by ReplayApiClient
+ * without calling SerpApi.
+ */
+public class RecordingApiClient implements ApiClient {
+
+    private final ApiClient delegate;
+    private final ResponseFixtures fixtures;
+
+    private final LongAdder recorded = new LongAdder();
+
+    public RecordingApiClient(ApiClient delegate, ResponseFixtures fixtures) {
+        this.delegate = delegate;
+        this.fixtures = fixtures;
+    }
+
+    @Override
+    public ApiResponseRecord get(Map<String, String> parameters) {
+        // The delegate adds api_key to the map, so the key is taken first
+        String key = RequestKeys.normalize(parameters);
+        ApiResponseRecord response = delegate.get(parameters);
+        record(key, response);
+        return response;
+    }
+
+    @Override
+    public CompletableFuture<ApiResponseRecord> getAsync(Map<String, String> parameters) {
+        String key = RequestKeys.normalize(parameters);
+        return delegate.getAsync(parameters).thenApply(response -> {
+            record(key, response);
+            return response;
+        });
+    }
+
+    /**
+     * @return Number of fixtures written
+     */
+    public long recorded() {
+        return recorded.sum();
+    }
+
+    private void record(String key, ApiResponseRecord response) {
+        if (response != null && response.error() == null) {
+            fixtures.write(key, response);
+            recorded.increment();
+        }
+    }
+}
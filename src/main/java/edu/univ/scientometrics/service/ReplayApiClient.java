@@ -0,0 +1,131 @@
+package edu.univ.scientometrics.service;
+
+import edu.univ.scientometrics.config.ApiConfig;
+import edu.univ.scientometrics.exception.ApiException;
+import edu.univ.scientometrics.model.ApiResponseRecord;
+import edu.univ.scientometrics.util.RequestKeys;
+
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * ApiClient that serves recorded fixtures instead of calling SerpApi
+ * (serpapi.mode=replay).
+ *
+ * Takes the place of GoogleScholarApiClient at the bottom of the decorator
+ * chain, so caching, coalescing, retries, the circuit breaker and the rate
+ * limiter can be load-tested offline without spending credits. To make the
+ * stand-in behave like the real service each call is delayed by the
+ * configured latency plus a uniform random jitter, and fails with the
+ * configured status at the configured error rate.
+ *
+ * Requests without a recorded fixture fail with 404.
+ */
+public class ReplayApiClient implements ApiClient {
+
+    private final ResponseFixtures fixtures;
+    private final ApiConfig.Replay settings;
+    private final Supplier<Random> random;
+
+    private final ConcurrentHashMap<String, ApiResponseRecord> loaded = new ConcurrentHashMap<>();
+
+    private final LongAdder served = new LongAdder();
+    private final LongAdder injectedErrors = new LongAdder();
+    private final LongAdder missing = new LongAdder();
+
+    public ReplayApiClient(ResponseFixtures fixtures, ApiConfig.Replay settings) {
+        this(fixtures, settings, ThreadLocalRandom::current);
+    }
+
+    ReplayApiClient(ResponseFixtures fixtures, ApiConfig.Replay settings, Supplier<Random> random) {
+        this.fixtures = fixtures;
+        this.settings = settings;
+        this.random = random;
+    }
+
+    @Override
+    public ApiResponseRecord get(Map<String, String> parameters) {
+        String key = RequestKeys.normalize(parameters);
+        long delay = nextDelayNanos();
+        if (delay > 0) {
+            try {
+                TimeUnit.NANOSECONDS.sleep(delay);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new ApiException(
+                        "API request was interrupted: " + e.getMessage(),
+                        e,
+                        500
+                );
+            }
+        }
+        return respond(key);
+    }
+
+    @Override
+    public CompletableFuture<ApiResponseRecord> getAsync(Map<String, String> parameters) {
+        String key = RequestKeys.normalize(parameters);
+        long delay = nextDelayNanos();
+        if (delay <= 0) {
+            try {
+                return CompletableFuture.completedFuture(respond(key));
+            } catch (RuntimeException e) {
+                return CompletableFuture.failedFuture(e);
+            }
+        }
+        return CompletableFuture.supplyAsync(() -> respond(key),
+                CompletableFuture.delayedExecutor(delay, TimeUnit.NANOSECONDS));
+    }
+
+    /**
+     * Returns a snapshot of the replay counters.
+     *
+     * @return Responses served, injected failures and requests without a fixture
+     */
+    public Stats stats() {
+        return new Stats(served.sum(), injectedErrors.sum(), missing.sum(), loaded.size());
+    }
+
+    private ApiResponseRecord respond(String key) {
+        if (settings.getErrorRate() > 0 && random.get().nextDouble() < settings.getErrorRate()) {
+            injectedErrors.increment();
+            throw new ApiException(
+                    "API request failed with status: " + settings.getErrorStatus() + " (injected)",
+                    settings.getErrorStatus()
+            );
+        }
+
+        ApiResponseRecord response = loaded.computeIfAbsent(key, fixtures::read);
+        if (response == null) {
+            missing.increment();
+            throw new ApiException("No recorded fixture for request: " + key, 404);
+        }
+
+        served.increment();
+        return response;
+    }
+
+    private long nextDelayNanos() {
+        long latency = settings.getLatency().toNanos();
+        long jitter = settings.getJitter().toNanos();
+        return jitter > 0
+                ? latency + (long) (random.get().nextDouble() * jitter)
+                : latency;
+    }
+
+    /**
+     * Point-in-time replay counters.
+     *
+     * @param served Responses served from fixtures
+     * @param injectedErrors Calls failed on purpose by the error rate
+     * @param missing Calls for which no fixture was recorded
+     * @param fixturesLoaded Distinct fixtures held in memory
+     */
+    public record Stats(long served, long injectedErrors, long missing, int fixturesLoaded) {}
+}
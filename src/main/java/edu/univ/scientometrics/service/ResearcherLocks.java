@@ -0,0 +1,105 @@
+package edu.univ.scientometrics.service;
+
+import edu.univ.scientometrics.util.ResearcherNames;
+import org.springframework.stereotype.Component;
+
+import java.sql.SQLIntegrityConstraintViolationException;
+import java.sql.SQLTransactionRollbackException;
+import java.util.Collection;
+import java.util.TreeSet;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+
+/**
+ * Serializes saves for the same researcher within this process.
+ *
+ * Resolving a researcher is read-then-write: two concurrent saves for one
+ * author can both miss the lookup and both insert. Saves therefore run
+ * under a lock chosen by the author's normalized name from a fixed set of
+ * stripes, so saves for the same author queue up while different authors
+ * (almost always on different stripes) proceed in parallel. The lock is
+ * held around the whole transaction, so the next save sees the committed
+ * researcher.
+ *
+ * Another process, or the same author reached through a different name,
+ * can still collide on the author_id unique index (or deadlock in MySQL).
+ * Such saves are retried: the retry runs in a new transaction and finds
+ * the researcher the other save committed.
+ */
+@Component
+public class ResearcherLocks {
+
+    /**
+     * Number of lock stripes; a power of two well above ingestion.concurrency
+     */
+    static final int STRIPES = 256;
+
+    /**
+     * Attempts of a save that keeps hitting constraint violations
+     */
+    static final int MAX_ATTEMPTS = 3;
+
+    private final ReentrantLock[] stripes = new ReentrantLock[STRIPES];
+
+    public ResearcherLocks() {
+        for (int i = 0; i < STRIPES; i++) {
+            stripes[i] = new ReentrantLock();
+        }
+    }
+
+    /**
+     * Runs a save while holding the locks of the given authors, retrying it
+     * when it fails on a constraint violation or deadlock.
+     *
+     * Stripes are taken in ascending order, so saves covering several
+     * authors (write-behind batches) cannot deadlock with each other.
+     *
+     * @param authorNames Authors whose researchers the save may create
+     * @param save Save to run; must start its own transaction
+     * @return Result of the save
+     */
+    public <T> T run(Collection<String> authorNames, Supplier<T> save) {
+        TreeSet<Integer> held = new TreeSet<>();
+        for (String authorName : authorNames) {
+            held.add(stripe(authorName));
+        }
+
+        for (Integer stripe : held) {
+            stripes[stripe].lock();
+        }
+        try {
+            for (int attempt = 1; ; attempt++) {
+                try {
+                    return save.get();
+                } catch (RuntimeException e) {
+                    if (attempt >= MAX_ATTEMPTS || !isRetryable(e)) {
+                        throw e;
+                    }
+                }
+            }
+        } finally {
+            for (Integer stripe : held.descendingSet()) {
+                stripes[stripe].unlock();
+            }
+        }
+    }
+
+    static int stripe(String authorName) {
+        return Math.floorMod(ResearcherNames.normalize(authorName).hashCode(), STRIPES);
+    }
+
+    /**
+     * True when a concurrent writer caused the failure, i.e. a duplicate
+     * key or a transaction rolled back by the database.
+     */
+    static boolean isRetryable(Throwable failure) {
+        for (Throwable cause = failure; cause != null; cause = cause.getCause()) {
+            if (cause instanceof SQLIntegrityConstraintViolationException
+                    || cause instanceof SQLTransactionRollbackException
+                    || cause instanceof org.hibernate.exception.ConstraintViolationException) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
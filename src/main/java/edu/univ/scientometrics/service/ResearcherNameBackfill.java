@@ -0,0 +1,33 @@
+package edu.univ.scientometrics.service;
+
+import edu.univ.scientometrics.repository.ResearcherRepository;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.stereotype.Component;
+
+/**
+ * Fills in the normalized name of researchers saved before the column was
+ * added, so exact name resolution also finds them.
+ *
+ * Runs once at startup in batches (one transaction each); when every
+ * researcher already has a normalized name it costs a single query.
+ */
+@Component
+public class ResearcherNameBackfill implements ApplicationRunner {
+
+    private static final int BATCH_SIZE = 500;
+
+    private final ResearcherRepository researcherRepository;
+
+    public ResearcherNameBackfill(ResearcherRepository researcherRepository) {
+        this.researcherRepository = researcherRepository;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        long lastId = 0;
+        while (lastId >= 0) {
+            lastId = researcherRepository.backfillNormalizedNames(lastId, BATCH_SIZE);
+        }
+    }
+}
@@ -0,0 +1,249 @@
+package edu.univ.scientometrics.service;
+
+import edu.univ.scientometrics.config.RefreshConfig;
+import edu.univ.scientometrics.entity.ResearcherEntity;
+import edu.univ.scientometrics.model.PublicationRecord;
+import edu.univ.scientometrics.repository.ResearcherRepository;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Stream;
+
+/**
+ * Keeps stored researchers fresh in the background (refresh.enabled).
+ *
+ * Every refresh.interval the researchers not updated for refresh.min-age
+ * are loaded, least recently updated first, and queued by priority:
+ * hours since updated_at, weighted up by how many publications the previous
+ * refresh found. As many as the credit budget allows are then refreshed
+ * with a paged date-range search starting at the year of their last update
+ * (as_ylo), so only recent publications are fetched, up to
+ * refresh.max-articles, and upserted.
+ *
+ * The budget is a token bucket of refresh.credits-per-hour credits that
+ * refills continuously; one refresh costs one credit per page of 20 that
+ * refresh.max-articles may need, failed or not.
+ *
+ * Refresh searches go through the response caches like any other search,
+ * so refresh.min-age must be longer than serpapi.disk-cache.ttl; otherwise
+ * a refresh can be answered with the cached response of the previous one.
+ */
+@Service
+public class ResearcherRefreshScheduler {
+
+    private static final Logger log = LoggerFactory.getLogger(ResearcherRefreshScheduler.class);
+
+    private final AuthorService authorService;
+    private final ArticlePersistenceService articlePersistenceService;
+    private final ResearcherRepository researcherRepository;
+    private final ResearcherLocks researcherLocks;
+    private final RefreshConfig config;
+    private final Clock clock;
+
+    private final ScheduledExecutorService scheduler;
+
+    /**
+     * Available credits and the time they were last topped up (guarded by this)
+     */
+    private double credits;
+    private long refilledAtMillis;
+
+    private volatile int lastQueued;
+    private final LongAdder refreshed = new LongAdder();
+    private final LongAdder failed = new LongAdder();
+    private final LongAdder articlesWritten = new LongAdder();
+
+    @Autowired
+    public ResearcherRefreshScheduler(AuthorService authorService,
+                                      ArticlePersistenceService articlePersistenceService,
+                                      ResearcherRepository researcherRepository,
+                                      ResearcherLocks researcherLocks,
+                                      RefreshConfig config) {
+        this(authorService, articlePersistenceService, researcherRepository, researcherLocks, config,
+                Clock.systemDefaultZone());
+    }
+
+    ResearcherRefreshScheduler(AuthorService authorService,
+                               ArticlePersistenceService articlePersistenceService,
+                               ResearcherRepository researcherRepository,
+                               ResearcherLocks researcherLocks,
+                               RefreshConfig config,
+                               Clock clock) {
+        this.authorService = authorService;
+        this.articlePersistenceService = articlePersistenceService;
+        this.researcherRepository = researcherRepository;
+        this.researcherLocks = researcherLocks;
+        this.config = config;
+        this.clock = clock;
+        this.credits = config.getCreditsPerHour();
+        this.refilledAtMillis = clock.millis();
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "researcher-refresh");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Runs one refresh round: refreshes the highest-priority stale
+     * researchers until the queue or the credit budget runs out.
+     *
+     * @return Number of researchers refreshed successfully
+     */
+    public int refreshDue() {
+        if (availableCredits() < 1) {
+            return 0;
+        }
+
+        LocalDateTime now = LocalDateTime.now(clock);
+        List<ResearcherEntity> stale = researcherRepository.findStale(
+                now.minus(config.getMinAge()),
+                config.getMaxCandidates()
+        );
+
+        PriorityQueue<ResearcherEntity> queue = new PriorityQueue<>(
+                Comparator.comparingDouble((ResearcherEntity researcher) -> priority(researcher, now)).reversed()
+        );
+        queue.addAll(stale);
+        lastQueued = queue.size();
+
+        int succeeded = 0;
+        while (!queue.isEmpty() && tryConsumeCredits(creditsPerRefresh())) {
+            if (refresh(queue.poll())) {
+                succeeded++;
+            }
+        }
+        return succeeded;
+    }
+
+    /**
+     * Returns a snapshot of the refresh counters.
+     *
+     * @return Refreshes done and failed, articles written and remaining budget
+     */
+    public Stats stats() {
+        return new Stats(
+                config.isEnabled(),
+                refreshed.sum(),
+                failed.sum(),
+                articlesWritten.sum(),
+                (int) availableCredits(),
+                lastQueued
+        );
+    }
+
+    /**
+     * Starts the background schedule once the bean is fully initialized.
+     */
+    @PostConstruct
+    public void start() {
+        long interval = config.getInterval().toMillis();
+        if (config.isEnabled() && interval > 0) {
+            scheduler.scheduleWithFixedDelay(this::refreshQuietly, interval, interval, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        scheduler.shutdownNow();
+    }
+
+    /**
+     * Higher is refreshed first. Researchers never updated go first; an
+     * active researcher (many recent publications) ages faster.
+     */
+    static double priority(ResearcherEntity researcher, LocalDateTime now) {
+        if (researcher.getUpdatedAt() == null) {
+            return Double.MAX_VALUE;
+        }
+        double staleHours = Duration.between(researcher.getUpdatedAt(), now).toMinutes() / 60.0;
+        int recent = researcher.getRecentPublications() != null ? researcher.getRecentPublications() : 0;
+        return staleHours * (1 + Math.log1p(recent));
+    }
+
+    private boolean refresh(ResearcherEntity researcher) {
+        // Fetch from the year of the last update on; the overlap is absorbed by the upsert
+        Integer sinceYear = researcher.getUpdatedAt() != null ? researcher.getUpdatedAt().getYear() : null;
+        try {
+            List<PublicationRecord> publications;
+            try (Stream<PublicationRecord> stream =
+                         authorService.streamByAuthorWithDateRange(researcher.getName(), sinceYear, null)) {
+                publications = stream.limit(config.getMaxArticles()).toList();
+            }
+            // Serialized with /save and write-behind saves of the same author, and retried like them
+            articlesWritten.add(researcherLocks.run(List.of(researcher.getName()),
+                    () -> articlePersistenceService.refreshArticles(
+                            researcher.getId(), publications, config.getMaxArticles())));
+            refreshed.increment();
+            return true;
+        } catch (RuntimeException e) {
+            log.warn("Refresh of researcher {} ({}) failed", researcher.getId(), researcher.getName(), e);
+            failed.increment();
+            return false;
+        }
+    }
+
+    private void refreshQuietly() {
+        try {
+            refreshDue();
+        } catch (RuntimeException e) {
+            // Database unavailable; the next round starts over
+            log.warn("Refresh round failed", e);
+            failed.increment();
+        }
+    }
+
+    private synchronized double availableCredits() {
+        long now = clock.millis();
+        double perMilli = config.getCreditsPerHour() / 3_600_000.0;
+        credits = Math.min(config.getCreditsPerHour(), credits + (now - refilledAtMillis) * perMilli);
+        refilledAtMillis = now;
+        return credits;
+    }
+
+    /**
+     * Pages of 20 a refresh may fetch to reach refresh.max-articles
+     */
+    private int creditsPerRefresh() {
+        return Math.max(1, (config.getMaxArticles() + AuthorServiceImpl.PAGE_SIZE - 1) / AuthorServiceImpl.PAGE_SIZE);
+    }
+
+    private synchronized boolean tryConsumeCredits(int cost) {
+        if (availableCredits() < cost) {
+            return false;
+        }
+        credits -= cost;
+        return true;
+    }
+
+    /**
+     * Point-in-time refresh counters.
+     *
+     * @param enabled Whether the background schedule is running
+     * @param refreshed Researchers refreshed successfully
+     * @param failed Refreshes (or rounds) that failed
+     * @param articlesWritten Articles upserted by refreshes
+     * @param creditsAvailable Whole credits left in the hourly budget
+     * @param lastQueued Stale researchers queued in the latest round
+     */
+    public record Stats(boolean enabled,
+                        long refreshed,
+                        long failed,
+                        long articlesWritten,
+                        int creditsAvailable,
+                        int lastQueued) {}
+}
@@ -0,0 +1,78 @@
+package edu.univ.scientometrics.service;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import edu.univ.scientometrics.model.ApiResponseRecord;
+import edu.univ.scientometrics.util.Hashes;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+
+/**
+ * Directory of recorded SerpApi responses, one JSON file per request.
+ *
+ * Files are named after the SHA-256 of the normalized request key (see
+ * RequestKeys), so the API key never ends up in a file name or body, and
+ * hold the key itself next to the response for readability:
+ *   {"request": "num=20&q=author:\"A Ng\"&start=0", "response": {...}}
+ */
+public class ResponseFixtures {
+
+    private final Path directory;
+    private final ObjectMapper objectMapper;
+
+    public ResponseFixtures(String directory) {
+        this.directory = Paths.get(directory);
+        this.objectMapper = new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT);
+    }
+
+    /**
+     * Loads the fixture recorded for a request.
+     *
+     * @param key Normalized request key
+     * @return Recorded response, or null if none was recorded
+     */
+    public ApiResponseRecord read(String key) {
+        Path file = path(key);
+        if (!Files.exists(file)) {
+            return null;
+        }
+        try {
+            return objectMapper.readValue(file.toFile(), Fixture.class).response();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to read fixture " + file, e);
+        }
+    }
+
+    /**
+     * Saves a response as the fixture for a request, replacing any earlier
+     * recording. The file is written under a temporary name and moved into
+     * place so a concurrent reader never sees a partial fixture.
+     *
+     * @param key Normalized request key
+     * @param response Response to record
+     */
+    public void write(String key, ApiResponseRecord response) {
+        Path file = path(key);
+        try {
+            Files.createDirectories(directory);
+            Path temporary = Files.createTempFile(directory, "fixture", ".tmp");
+            objectMapper.writeValue(temporary.toFile(), new Fixture(key, response));
+            Files.move(temporary, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to write fixture " + file, e);
+        }
+    }
+
+    Path path(String key) {
+        return directory.resolve(Hashes.sha256Hex(key) + ".json");
+    }
+
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    record Fixture(String request, ApiResponseRecord response) {}
+}
@@ -0,0 +1,141 @@
+package edu.univ.scientometrics.service;
+
+import edu.univ.scientometrics.config.ApiConfig;
+import edu.univ.scientometrics.exception.ApiException;
+import edu.univ.scientometrics.model.ApiResponseRecord;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+/**
+ * ApiClient decorator that retries transient SerpApi failures.
+ *
+ * Only failures classified as transient by ApiFailures are retried (all
+ * requests are idempotent GETs). Delays grow exponentially with "full
+ * jitter" (a random delay between zero and the current backoff) so that
+ * many clients failing together do not retry in lockstep. When SerpApi
+ * sends Retry-After, the delay is at least that long; if it exceeds the
+ * maximum backoff the failure is returned instead of waiting.
+ *
+ * Sits outside the rate limiter, so every retry still spends a rate-limited
+ * slot, and inside the circuit breaker, which sees the final outcome.
+ */
+public class RetryingApiClient implements ApiClient {
+
+    private final ApiClient delegate;
+    private final ApiConfig.Retry settings;
+
+    private final LongAdder retries = new LongAdder();
+    private final LongAdder exhausted = new LongAdder();
+
+    public RetryingApiClient(ApiClient delegate, ApiConfig.Retry settings) {
+        this.delegate = delegate;
+        this.settings = settings;
+    }
+
+    @Override
+    public ApiResponseRecord get(Map<String, String> parameters) {
+        for (int attempt = 1; ; attempt++) {
+            try {
+                return delegate.get(parameters);
+            } catch (ApiException e) {
+                Duration delay = nextDelay(e, attempt);
+                if (delay == null) {
+                    throw e;
+                }
+                retries.increment();
+                sleep(delay);
+            }
+        }
+    }
+
+    @Override
+    public CompletableFuture<ApiResponseRecord> getAsync(Map<String, String> parameters) {
+        return attemptAsync(parameters, 1);
+    }
+
+    /**
+     * Returns a snapshot of the retry counters.
+     *
+     * @return Retries performed and requests that failed after the last attempt
+     */
+    public Stats stats() {
+        return new Stats(retries.sum(), exhausted.sum());
+    }
+
+    private CompletableFuture<ApiResponseRecord> attemptAsync(Map<String, String> parameters, int attempt) {
+        CompletableFuture<ApiResponseRecord> request;
+        try {
+            request = delegate.getAsync(parameters);
+        } catch (RuntimeException e) {
+            request = CompletableFuture.failedFuture(e);
+        }
+
+        return request.handle((response, error) -> {
+            if (error == null) {
+                return CompletableFuture.completedFuture(response);
+            }
+            Duration delay = nextDelay(error, attempt);
+            if (delay == null) {
+                return CompletableFuture.<ApiResponseRecord>failedFuture(ApiFailures.unwrap(error));
+            }
+            retries.increment();
+            return CompletableFuture
+                    .runAsync(() -> { }, CompletableFuture.delayedExecutor(delay.toNanos(), TimeUnit.NANOSECONDS))
+                    .thenCompose(ignored -> attemptAsync(parameters, attempt + 1));
+        }).thenCompose(Function.identity());
+    }
+
+    /**
+     * Delay before the next attempt, or null if the failure must be returned.
+     */
+    private Duration nextDelay(Throwable error, int attempt) {
+        if (!settings.isEnabled() || !ApiFailures.isTransient(error)) {
+            return null;
+        }
+        if (attempt >= settings.getMaxAttempts()) {
+            exhausted.increment();
+            return null;
+        }
+
+        long maxBackoff = settings.getMaxBackoff().toMillis();
+        long backoff = (long) Math.min(maxBackoff,
+                settings.getInitialBackoff().toMillis() * Math.pow(settings.getMultiplier(), attempt - 1));
+        long jittered = ThreadLocalRandom.current().nextLong(backoff + 1);
+
+        Duration retryAfter = ((ApiException) ApiFailures.unwrap(error)).getRetryAfter();
+        if (retryAfter != null) {
+            if (retryAfter.toMillis() > maxBackoff) {
+                return null;
+            }
+            return Duration.ofMillis(Math.max(retryAfter.toMillis(), jittered));
+        }
+        return Duration.ofMillis(jittered);
+    }
+
+    private static void sleep(Duration delay) {
+        try {
+            Thread.sleep(delay.toMillis());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ApiException(
+                    "API request was interrupted: " + e.getMessage(),
+                    e,
+                    500
+            );
+        }
+    }
+
+    /**
+     * Point-in-time retry counters.
+     *
+     * @param retries Attempts made after a transient failure
+     * @param exhausted Requests that still failed after the last attempt
+     */
+    public record Stats(long retries, long exhausted) {}
+}
@@ -0,0 +1,132 @@
+package edu.univ.scientometrics.service;
+
+import edu.univ.scientometrics.exception.ApiException;
+import edu.univ.scientometrics.model.ApiResponseRecord;
+import edu.univ.scientometrics.util.RequestKeys;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * ApiClient decorator that collapses identical concurrent requests.
+ *
+ * The first caller for a normalized parameter map (the leader) performs the
+ * request; callers arriving while it is in flight wait for the same result
+ * instead of issuing their own HTTP call. Failures are shared the same way.
+ * Once the request completes the key is released, so later callers start
+ * a fresh request (caching is left to CachingApiClient).
+ */
+public class SingleFlightApiClient implements ApiClient {
+
+    private final ApiClient delegate;
+    private final ConcurrentHashMap<String, CompletableFuture<ApiResponseRecord>> inFlight =
+            new ConcurrentHashMap<>();
+
+    private final LongAdder executed = new LongAdder();
+    private final LongAdder coalesced = new LongAdder();
+
+    public SingleFlightApiClient(ApiClient delegate) {
+        this.delegate = delegate;
+    }
+
+    @Override
+    public ApiResponseRecord get(Map<String, String> parameters) {
+        String key = RequestKeys.normalize(parameters);
+
+        CompletableFuture<ApiResponseRecord> call = new CompletableFuture<>();
+        CompletableFuture<ApiResponseRecord> existing = inFlight.putIfAbsent(key, call);
+
+        if (existing != null) {
+            coalesced.increment();
+            return await(existing);
+        }
+
+        executed.increment();
+        try {
+            ApiResponseRecord response = delegate.get(parameters);
+            call.complete(response);
+            return response;
+        } catch (Throwable e) {
+            // Errors too, or callers waiting on the shared call would block forever
+            call.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, call);
+        }
+    }
+
+    @Override
+    public CompletableFuture<ApiResponseRecord> getAsync(Map<String, String> parameters) {
+        String key = RequestKeys.normalize(parameters);
+
+        CompletableFuture<ApiResponseRecord> call = new CompletableFuture<>();
+        CompletableFuture<ApiResponseRecord> existing = inFlight.putIfAbsent(key, call);
+
+        if (existing != null) {
+            coalesced.increment();
+            // Hand out a copy so one caller cannot complete the shared future for the others
+            return existing.copy();
+        }
+
+        executed.increment();
+        CompletableFuture<ApiResponseRecord> request;
+        try {
+            request = delegate.getAsync(parameters);
+        } catch (Throwable e) {
+            request = CompletableFuture.failedFuture(e);
+        }
+
+        request.whenComplete((response, error) -> {
+            inFlight.remove(key, call);
+            if (error != null) {
+                call.completeExceptionally(ApiFailures.unwrap(error));
+            } else {
+                call.complete(response);
+            }
+        });
+        return call.copy();
+    }
+
+    /**
+     * Returns a snapshot of the coalescing counters.
+     *
+     * @return Requests executed, requests that joined an in-flight call,
+     *         and calls currently in flight
+     */
+    public Stats stats() {
+        return new Stats(executed.sum(), coalesced.sum(), inFlight.size());
+    }
+
+    private ApiResponseRecord await(CompletableFuture<ApiResponseRecord> call) {
+        try {
+            return call.get();
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            if (e.getCause() instanceof Error error) {
+                throw error;
+            }
+            throw new ApiException("API request failed: " + e.getCause().getMessage(), e.getCause(), 500);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ApiException(
+                    "API request was interrupted: " + e.getMessage(),
+                    e,
+                    500
+            );
+        }
+    }
+
+    /**
+     * Point-in-time coalescing counters.
+     *
+     * @param executed Requests forwarded to the delegate
+     * @param coalesced Requests served by joining an in-flight call
+     * @param inFlight Distinct requests currently in flight
+     */
+    public record Stats(long executed, long coalesced, int inFlight) {}
+}
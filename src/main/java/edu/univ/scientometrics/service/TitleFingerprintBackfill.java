@@ -0,0 +1,33 @@
+package edu.univ.scientometrics.service;
+
+import edu.univ.scientometrics.repository.ArticleRepository;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.stereotype.Component;
+
+/**
+ * Fills in the title fingerprint of articles saved before the column was
+ * added, so duplicate detection also covers them.
+ *
+ * Runs once at startup in batches (one transaction each); when every
+ * article already has a fingerprint it costs a single query.
+ */
+@Component
+public class TitleFingerprintBackfill implements ApplicationRunner {
+
+    private static final int BATCH_SIZE = 500;
+
+    private final ArticleRepository articleRepository;
+
+    public TitleFingerprintBackfill(ArticleRepository articleRepository) {
+        this.articleRepository = articleRepository;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        long lastId = 0;
+        while (lastId >= 0) {
+            lastId = articleRepository.backfillTitleFingerprints(lastId, BATCH_SIZE);
+        }
+    }
+}
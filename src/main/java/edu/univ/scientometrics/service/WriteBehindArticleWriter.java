@@ -0,0 +1,299 @@
+package edu.univ.scientometrics.service;
+
+import edu.univ.scientometrics.config.WriteBehindConfig;
+import edu.univ.scientometrics.exception.ApiException;
+import edu.univ.scientometrics.model.PublicationRecord;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Saves fetched publications asynchronously (write-behind).
+ *
+ * Callers hand over the publications of a search and return at once; a
+ * single writer thread drains the bounded queue and stores the saves of
+ * many requests together, one transaction and one batched upsert per
+ * batch (see ArticlePersistenceService). When the queue is full, submit
+ * blocks up to write-behind.enqueue-timeout and then fails with 503, so
+ * producers slow down to the rate the database sustains.
+ *
+ * Callers have already been answered when a save runs, so a save that
+ * fails is logged and kept in a short list of recent failures, reported
+ * by stats (/api/metrics/write-behind).
+ *
+ * On shutdown new saves are refused and the queue is drained before the
+ * application context closes. Saves still queued when
+ * write-behind.shutdown-timeout runs out are taken off the queue and
+ * logged by author as not written. Saves still queued when the process
+ * dies abruptly are lost.
+ */
+@Service
+public class WriteBehindArticleWriter {
+
+    /**
+     * How often an idle writer checks for shutdown
+     */
+    private static final long IDLE_POLL_MILLIS = 100;
+
+    /**
+     * Failed saves kept for stats, most recent last
+     */
+    static final int MAX_RECENT_FAILURES = 20;
+
+    private static final Logger log = LoggerFactory.getLogger(WriteBehindArticleWriter.class);
+
+    private final ArticlePersistenceService articlePersistenceService;
+    private final ResearcherLocks researcherLocks;
+    private final WriteBehindConfig config;
+
+    private final BlockingQueue<ArticlePersistenceService.SaveRequest> queue;
+    private final Thread writer;
+    private volatile boolean closed;
+
+    private final LongAdder submitted = new LongAdder();
+    private final LongAdder rejected = new LongAdder();
+    private final LongAdder saved = new LongAdder();
+    private final LongAdder failed = new LongAdder();
+    private final LongAdder batches = new LongAdder();
+    private final LongAdder articlesWritten = new LongAdder();
+    private final LongAdder abandoned = new LongAdder();
+
+    /**
+     * Most recent failed saves (guarded by itself)
+     */
+    private final ArrayDeque<FailedSave> recentFailures = new ArrayDeque<>();
+
+    public WriteBehindArticleWriter(ArticlePersistenceService articlePersistenceService,
+                                    ResearcherLocks researcherLocks,
+                                    WriteBehindConfig config) {
+        this.articlePersistenceService = articlePersistenceService;
+        this.researcherLocks = researcherLocks;
+        this.config = config;
+        this.queue = new ArrayBlockingQueue<>(Math.max(1, config.getQueueCapacity()));
+        this.writer = new Thread(this::drain, "write-behind-writer");
+        this.writer.setDaemon(true);
+        this.writer.start();
+    }
+
+    /**
+     * Queues the publications of a search for saving.
+     *
+     * @param authorName Author name that was searched
+     * @param publications Publications returned by the search
+     * @param maxArticles Maximum number of articles to save
+     * @throws ApiException with status 503 if the queue stays full or the writer is shut down
+     */
+    public void submit(String authorName, List<PublicationRecord> publications, int maxArticles) {
+        if (closed) {
+            throw new ApiException("Write-behind queue is shut down", 503);
+        }
+
+        ArticlePersistenceService.SaveRequest save =
+                new ArticlePersistenceService.SaveRequest(authorName, List.copyOf(publications), maxArticles);
+        try {
+            if (!queue.offer(save, config.getEnqueueTimeout().toNanos(), TimeUnit.NANOSECONDS)) {
+                rejected.increment();
+                throw new ApiException(
+                        "Write-behind queue is full, retry later",
+                        503,
+                        Duration.ofSeconds(1)
+                );
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            rejected.increment();
+            throw new ApiException("Interrupted while queueing save", e, 503);
+        }
+        submitted.increment();
+    }
+
+    /**
+     * Returns a snapshot of the write-behind counters.
+     *
+     * @return Queue depth, counts of saves, batches and failures, and the latest failures
+     */
+    public Stats stats() {
+        List<FailedSave> failures;
+        synchronized (recentFailures) {
+            failures = List.copyOf(recentFailures);
+        }
+        return new Stats(
+                queue.size(),
+                config.getQueueCapacity(),
+                submitted.sum(),
+                rejected.sum(),
+                saved.sum(),
+                failed.sum(),
+                batches.sum(),
+                articlesWritten.sum(),
+                abandoned.sum(),
+                failures
+        );
+    }
+
+    /**
+     * Refuses new saves and waits for the queued ones to be written. If the
+     * writer does not finish in time, the saves still queued are counted
+     * and logged as not written rather than left behind silently.
+     */
+    @PreDestroy
+    public void shutdown() {
+        closed = true;
+        try {
+            writer.join(config.getShutdownTimeout().toMillis());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+
+        if (writer.isAlive()) {
+            List<ArticlePersistenceService.SaveRequest> unwritten = new ArrayList<>();
+            queue.drainTo(unwritten);
+            if (!unwritten.isEmpty()) {
+                abandoned.add(unwritten.size());
+                log.warn("Write-behind writer did not finish within {}; {} queued saves were not written: {}",
+                        config.getShutdownTimeout(), unwritten.size(),
+                        unwritten.stream().map(ArticlePersistenceService.SaveRequest::authorName).toList());
+            }
+        }
+    }
+
+    private void drain() {
+        List<ArticlePersistenceService.SaveRequest> batch = new ArrayList<>();
+        int batchSize = Math.max(1, config.getBatchSize());
+
+        while (true) {
+            try {
+                ArticlePersistenceService.SaveRequest first = queue.poll(IDLE_POLL_MILLIS, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    if (closed && queue.isEmpty()) {
+                        return;
+                    }
+                    continue;
+                }
+                batch.add(first);
+
+                // Linger briefly so saves from concurrent requests share the batch
+                long deadline = System.nanoTime() + config.getMaxBatchDelay().toNanos();
+                while (batch.size() < batchSize) {
+                    queue.drainTo(batch, batchSize - batch.size());
+                    long remaining = deadline - System.nanoTime();
+                    if (batch.size() >= batchSize || remaining <= 0 || closed) {
+                        break;
+                    }
+                    ArticlePersistenceService.SaveRequest next = queue.poll(remaining, TimeUnit.NANOSECONDS);
+                    if (next == null) {
+                        break;
+                    }
+                    batch.add(next);
+                }
+            } catch (InterruptedException e) {
+                // Not expected; stop accepting saves and finish what is queued
+                closed = true;
+            }
+
+            write(batch);
+            batch.clear();
+        }
+    }
+
+    /**
+     * Writes a batch in one transaction; if that fails, retries each save
+     * on its own so one bad save does not drop the others.
+     */
+    private void write(List<ArticlePersistenceService.SaveRequest> batch) {
+        if (batch.isEmpty()) {
+            return;
+        }
+        batches.increment();
+        try {
+            articlesWritten.add(upsert(batch));
+            saved.add(batch.size());
+            return;
+        } catch (RuntimeException e) {
+            if (batch.size() == 1) {
+                recordFailure(batch.get(0), e);
+                return;
+            }
+        }
+
+        for (ArticlePersistenceService.SaveRequest save : batch) {
+            try {
+                articlesWritten.add(upsert(List.of(save)));
+                saved.increment();
+            } catch (RuntimeException e) {
+                recordFailure(save, e);
+            }
+        }
+    }
+
+    private void recordFailure(ArticlePersistenceService.SaveRequest save, RuntimeException error) {
+        failed.increment();
+        log.warn("Write-behind save for '{}' failed; {} publications were not stored",
+                save.authorName(), save.publications().size(), error);
+
+        FailedSave failure = new FailedSave(
+                save.authorName(), save.publications().size(), String.valueOf(error.getMessage()), Instant.now());
+        synchronized (recentFailures) {
+            if (recentFailures.size() == MAX_RECENT_FAILURES) {
+                recentFailures.removeFirst();
+            }
+            recentFailures.addLast(failure);
+        }
+    }
+
+    private int upsert(List<ArticlePersistenceService.SaveRequest> saves) {
+        List<String> authorNames = saves.stream()
+                .map(ArticlePersistenceService.SaveRequest::authorName)
+                .toList();
+        return researcherLocks.run(authorNames, () -> articlePersistenceService.upsertArticles(saves));
+    }
+
+    /**
+     * Point-in-time write-behind counters.
+     *
+     * @param queued Saves waiting in the queue
+     * @param capacity Queue capacity
+     * @param submitted Saves accepted into the queue
+     * @param rejected Saves refused because the queue stayed full
+     * @param saved Saves written to the database
+     * @param failed Saves that could not be written
+     * @param batches Transactions run by the writer
+     * @param articlesWritten Articles upserted
+     * @param abandoned Saves still queued when the shutdown timeout ran out
+     * @param recentFailures Latest failed saves, oldest first
+     */
+    public record Stats(int queued,
+                        int capacity,
+                        long submitted,
+                        long rejected,
+                        long saved,
+                        long failed,
+                        long batches,
+                        long articlesWritten,
+                        long abandoned,
+                        List<FailedSave> recentFailures) {}
+
+    /**
+     * A queued save that could not be written.
+     *
+     * @param authorName Author name that was searched
+     * @param publications Publications that were not stored
+     * @param error Message of the failure
+     * @param failedAt When the save failed
+     */
+    public record FailedSave(String authorName,
+                             int publications,
+                             String error,
+                             Instant failedAt) {}
+}
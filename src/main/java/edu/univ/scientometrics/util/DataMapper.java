@@ -6,6 +6,8 @@ import edu.univ.scientometrics.entity.ResearcherEntity;
 import edu.univ.scientometrics.model.PublicationRecord;
 import edu.univ.scientometrics.model.AuthorInfo;
 
+import java.util.Arrays;
+import java.util.Locale;
 import java.util.stream.Collectors;
 
 /**
@@ -137,6 +139,38 @@ public class DataMapper {
         return null;
     }
 
+    /**
+     * Splits a stored keywords column (as produced by extractKeywords)
+     * into its distinct terms.
+     *
+     * Example input: "deep, learning, deep"
+     * Returns: ["deep", "learning"]
+     *
+     * @param keywords Comma-separated keywords, may be null
+     * @return Distinct normalized terms in stored order (empty if none)
+     */
+    public static String[] keywordTerms(String keywords) {
+        if (keywords == null || keywords.isBlank()) {
+            return new String[0];
+        }
+        return Arrays.stream(keywords.split(","))
+                .map(DataMapper::normalizeKeyword)
+                .filter(term -> !term.isEmpty())
+                .distinct()
+                .toArray(String[]::new);
+    }
+
+    /**
+     * Normalizes a keyword the way extractKeywords does: lower case,
+     * letters and digits only.
+     *
+     * @param keyword Keyword as typed or stored
+     * @return Normalized term (empty if nothing is left)
+     */
+    public static String normalizeKeyword(String keyword) {
+        return keyword.toLowerCase(Locale.ROOT).replaceAll("[^a-z0-9]", "");
+    }
+
     /**
      * Extracts keywords from title and snippet.
      *
@@ -0,0 +1,116 @@
+package edu.univ.scientometrics.util;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Utility class for turning user search input into a MySQL boolean-mode
+ * full-text query.
+ *
+ * Supported syntax:
+ * - word: optional term, raises relevance when present
+ * - +word: required term
+ * - -word: excluded term
+ * - word*: prefix match
+ * - "exact phrase" (also +"..." and -"...")
+ *
+ * Any other operator character is dropped, so user input can never make
+ * MATCH ... AGAINST fail with a syntax error. A term split by punctuation
+ * (e.g. "covid-19") becomes a phrase instead of an exclusion.
+ *
+ * Example: {@code deep +"neural network" -survey covid-19}
+ * becomes {@code deep +"neural network" -survey "covid 19"}.
+ */
+public class FullTextQueries {
+
+    private FullTextQueries() {
+        throw new UnsupportedOperationException("Utility class cannot be instantiated");
+    }
+
+    /**
+     * Builds a boolean-mode query from search input.
+     *
+     * @param input Search text as typed by the user
+     * @return Boolean-mode query, or an empty string if no word remains
+     */
+    public static String toBooleanQuery(String input) {
+        if (input == null) {
+            return "";
+        }
+
+        List<String> clauses = new ArrayList<>();
+        int i = 0;
+        int length = input.length();
+
+        while (i < length) {
+            char c = input.charAt(i);
+            if (Character.isWhitespace(c)) {
+                i++;
+                continue;
+            }
+
+            String operator = "";
+            if ((c == '+' || c == '-') && i + 1 < length) {
+                operator = String.valueOf(c);
+                c = input.charAt(++i);
+                if (Character.isWhitespace(c)) {
+                    continue;
+                }
+            }
+
+            if (c == '"') {
+                int end = input.indexOf('"', i + 1);
+                if (end < 0) {
+                    end = length;
+                }
+                String phrase = words(input.substring(i + 1, end));
+                if (!phrase.isEmpty()) {
+                    clauses.add(operator + '"' + phrase + '"');
+                }
+                i = end + 1;
+                continue;
+            }
+
+            int end = i;
+            while (end < length && !Character.isWhitespace(input.charAt(end)) && input.charAt(end) != '"') {
+                end++;
+            }
+            String token = input.substring(i, end);
+            boolean prefix = token.endsWith("*");
+            String term = words(token);
+            if (!term.isEmpty()) {
+                if (term.indexOf(' ') >= 0) {
+                    // Punctuation inside a term: match the parts as a phrase
+                    clauses.add(operator + '"' + term + '"');
+                } else {
+                    clauses.add(operator + term + (prefix ? "*" : ""));
+                }
+            }
+            i = end;
+        }
+
+        return String.join(" ", clauses);
+    }
+
+    /**
+     * Keeps letters and digits, turning every other run of characters into
+     * a single space.
+     */
+    private static String words(String text) {
+        StringBuilder result = new StringBuilder(text.length());
+        boolean pendingSpace = false;
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (Character.isLetterOrDigit(c)) {
+                if (pendingSpace && result.length() > 0) {
+                    result.append(' ');
+                }
+                result.append(c);
+                pendingSpace = false;
+            } else {
+                pendingSpace = true;
+            }
+        }
+        return result.toString();
+    }
+}
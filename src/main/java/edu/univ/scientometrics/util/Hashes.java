@@ -0,0 +1,36 @@
+package edu.univ.scientometrics.util;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+
+/**
+ * Utility class for content hashes used as keys and change detectors.
+ */
+public class Hashes {
+
+    /**
+     * Length of a hex-encoded SHA-256 hash
+     */
+    public static final int SHA256_HEX_LENGTH = 64;
+
+    private Hashes() {
+        throw new UnsupportedOperationException("Utility class cannot be instantiated");
+    }
+
+    /**
+     * Hashes a string (as UTF-8) with SHA-256.
+     *
+     * @param value Text to hash
+     * @return Lower-case hex encoding of the hash
+     */
+    public static String sha256Hex(String value) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(value.getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+}
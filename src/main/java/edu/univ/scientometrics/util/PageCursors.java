@@ -0,0 +1,65 @@
+package edu.univ.scientometrics.util;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * Utility class for opaque keyset pagination cursors.
+ *
+ * A cursor holds the sort key of the last row of a page, e.g. the
+ * (cited_by, id) of the last article. The next page continues strictly
+ * after it, so a page costs the same at any depth. Values are joined and
+ * Base64url-encoded; clients must treat the token as opaque.
+ *
+ * Example: ["42", "1007"] becomes "djEANDIAMTAwNw".
+ */
+public class PageCursors {
+
+    private static final String VERSION = "v1";
+    private static final String SEPARATOR = "\u0000";
+
+    private PageCursors() {
+        throw new UnsupportedOperationException("Utility class cannot be instantiated");
+    }
+
+    /**
+     * Encodes the sort key of the last row of a page.
+     *
+     * @param values Sort key values (null is encoded as empty)
+     * @return Opaque cursor
+     */
+    public static String encode(Object... values) {
+        StringBuilder cursor = new StringBuilder(VERSION);
+        for (Object value : values) {
+            cursor.append(SEPARATOR).append(value == null ? "" : value);
+        }
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(cursor.toString().getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Decodes a cursor produced by encode.
+     *
+     * @param cursor Opaque cursor
+     * @param parts Expected number of values
+     * @return Values in encoding order (empty string for null)
+     * @throws IllegalArgumentException if the cursor is malformed
+     */
+    public static String[] decode(String cursor, int parts) {
+        String decoded;
+        try {
+            decoded = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Invalid cursor", e);
+        }
+
+        String[] values = decoded.split(SEPARATOR, -1);
+        if (values.length != parts + 1 || !VERSION.equals(values[0])) {
+            throw new IllegalArgumentException("Invalid cursor");
+        }
+
+        String[] result = new String[parts];
+        System.arraycopy(values, 1, result, 0, parts);
+        return result;
+    }
+}
@@ -0,0 +1,58 @@
+package edu.univ.scientometrics.util;
+
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
+
+/**
+ * Utility class for building canonical keys from API request parameters.
+ *
+ * Two parameter maps that describe the same SerpApi query (same entries,
+ * any insertion order, different API key) produce the same key, so the key
+ * can be used to share responses between callers. Names and values are
+ * URL-encoded, so a value containing '&' or '=' cannot pass for extra
+ * parameters and two different queries never share a key.
+ *
+ * Example: {q=author:"A Ng", num=10, api_key=xyz} becomes
+ * "num=10&q=author%3A%22A+Ng%22"
+ */
+public class RequestKeys {
+
+    /**
+     * Parameters that never influence the response content
+     */
+    private static final String API_KEY_PARAM = "api_key";
+
+    private RequestKeys() {
+        throw new UnsupportedOperationException("Utility class cannot be instantiated");
+    }
+
+    /**
+     * Normalizes a parameter map into a stable cache key.
+     *
+     * Entries are sorted by name, values are trimmed and the API key
+     * is excluded. Null values are skipped. Names and values are
+     * URL-encoded before they are joined.
+     *
+     * @param parameters Request parameters as passed to ApiClient
+     * @return Canonical key for the request
+     */
+    public static String normalize(Map<String, String> parameters) {
+        Map<String, String> sorted = new TreeMap<>();
+        parameters.forEach((name, value) -> {
+            if (name != null && value != null && !API_KEY_PARAM.equals(name)) {
+                sorted.put(name.trim(), value.trim());
+            }
+        });
+
+        return sorted.entrySet().stream()
+                .map(entry -> encode(entry.getKey()) + "=" + encode(entry.getValue()))
+                .collect(Collectors.joining("&"));
+    }
+
+    private static String encode(String text) {
+        return URLEncoder.encode(text, StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,71 @@
+package edu.univ.scientometrics.util;
+
+import java.text.Normalizer;
+import java.util.Locale;
+import java.util.regex.Pattern;
+
+/**
+ * Utility class for normalizing researcher names.
+ *
+ * The normalized form is stored next to the name and matched exactly, so
+ * a researcher is found regardless of case, accents or punctuation while
+ * "Li" no longer matches every name that contains it.
+ *
+ * Example: "José  A. García-Pérez" normalizes to "jose a garcia perez".
+ */
+public class ResearcherNames {
+
+    /**
+     * Maximum length of a normalized name (matches the column)
+     */
+    public static final int MAX_LENGTH = 255;
+
+    private static final Pattern COMBINING_MARKS = Pattern.compile("\\p{M}+");
+    private static final Pattern SEPARATORS = Pattern.compile("[^\\p{L}\\p{N}]+");
+
+    private ResearcherNames() {
+        throw new UnsupportedOperationException("Utility class cannot be instantiated");
+    }
+
+    /**
+     * Lower-cases a name, removes accents and reduces punctuation and
+     * whitespace runs to single spaces.
+     *
+     * @param name Researcher name (null is treated as empty)
+     * @return Normalized name, at most MAX_LENGTH characters
+     */
+    public static String normalize(String name) {
+        if (name == null) {
+            return "";
+        }
+        String decomposed = Normalizer.normalize(name, Normalizer.Form.NFKD);
+        String withoutAccents = COMBINING_MARKS.matcher(decomposed).replaceAll("");
+        String normalized = SEPARATORS.matcher(withoutAccents.toLowerCase(Locale.ROOT)).replaceAll(" ").trim();
+        return normalized.length() > MAX_LENGTH ? normalized.substring(0, MAX_LENGTH) : normalized;
+    }
+
+    /**
+     * Tells whether an author listed on a result (as Google Scholar prints
+     * it, usually initials and surname) can be the searched researcher:
+     * the surnames must be equal and, when both names have given names,
+     * so must their first initials.
+     *
+     * Example: "Andrew Ng" matches "AY Ng" and "Ng", but not "J Ng" or "AY Ngo".
+     *
+     * @param searchedName Name that was searched
+     * @param listedName Author name listed on a publication
+     * @return true if the listed author may be the searched one
+     */
+    public static boolean matches(String searchedName, String listedName) {
+        String[] searched = normalize(searchedName).split(" ");
+        String[] listed = normalize(listedName).split(" ");
+        if (searched[0].isEmpty() || listed[0].isEmpty()) {
+            return false;
+        }
+        if (!searched[searched.length - 1].equals(listed[listed.length - 1])) {
+            return false;
+        }
+        return searched.length == 1 || listed.length == 1
+                || searched[0].charAt(0) == listed[0].charAt(0);
+    }
+}
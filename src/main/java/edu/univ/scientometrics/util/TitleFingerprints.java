@@ -0,0 +1,55 @@
+package edu.univ.scientometrics.util;
+
+import java.text.Normalizer;
+import java.util.Locale;
+import java.util.regex.Pattern;
+
+/**
+ * Utility class for fingerprinting article titles.
+ *
+ * Two titles that differ only in case, whitespace, punctuation or accents
+ * produce the same fingerprint, so it can be used to detect an article
+ * that is already stored for a researcher without comparing full titles.
+ *
+ * Example: "Deep Learning: A Review." and "deep learning - a review"
+ * both normalize to "deeplearningareview" before hashing.
+ */
+public class TitleFingerprints {
+
+    /**
+     * Length of a fingerprint (hex-encoded SHA-256)
+     */
+    public static final int LENGTH = Hashes.SHA256_HEX_LENGTH;
+
+    private static final Pattern COMBINING_MARKS = Pattern.compile("\\p{M}+");
+    private static final Pattern NON_ALPHANUMERIC = Pattern.compile("[^\\p{L}\\p{N}]+");
+
+    private TitleFingerprints() {
+        throw new UnsupportedOperationException("Utility class cannot be instantiated");
+    }
+
+    /**
+     * Computes the fingerprint of a title.
+     *
+     * @param title Article title (null is treated as empty)
+     * @return Hex-encoded SHA-256 of the normalized title
+     */
+    public static String of(String title) {
+        return Hashes.sha256Hex(normalize(title));
+    }
+
+    /**
+     * Reduces a title to lower-case letters and digits, with accents removed.
+     *
+     * @param title Article title (null is treated as empty)
+     * @return Normalized title
+     */
+    public static String normalize(String title) {
+        if (title == null) {
+            return "";
+        }
+        String decomposed = Normalizer.normalize(title, Normalizer.Form.NFKD);
+        String withoutAccents = COMBINING_MARKS.matcher(decomposed).replaceAll("");
+        return NON_ALPHANUMERIC.matcher(withoutAccents.toLowerCase(Locale.ROOT)).replaceAll("");
+    }
+}
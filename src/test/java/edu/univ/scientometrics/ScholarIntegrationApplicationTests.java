@@ -0,0 +1,48 @@
+package edu.univ.scientometrics;
+
+import edu.univ.scientometrics.repository.ArticleRepository;
+import edu.univ.scientometrics.repository.ResearcherRepository;
+import edu.univ.scientometrics.service.KeywordIndexInitializer;
+import edu.univ.scientometrics.service.ResearcherNameBackfill;
+import edu.univ.scientometrics.service.TitleFingerprintBackfill;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.transaction.PlatformTransactionManager;
+
+/**
+ * Loads the whole application context without a database: the
+ * repositories, the transaction manager and the startup backfills that
+ * page through the tables are mocked.
+ */
+@SpringBootTest(properties = {
+        "spring.autoconfigure.exclude=" +
+                "org.springframework.boot.autoconfigure.jdbc.DataSourceAutoConfiguration," +
+                "org.springframework.boot.autoconfigure.jdbc.DataSourceTransactionManagerAutoConfiguration," +
+                "org.springframework.boot.autoconfigure.orm.jpa.HibernateJpaAutoConfiguration",
+        "serpapi.disk-cache.enabled=false"
+})
+class ScholarIntegrationApplicationTests {
+
+    @MockBean
+    private ArticleRepository articleRepository;
+
+    @MockBean
+    private ResearcherRepository researcherRepository;
+
+    @MockBean
+    private PlatformTransactionManager transactionManager;
+
+    @MockBean
+    private TitleFingerprintBackfill titleFingerprintBackfill;
+
+    @MockBean
+    private ResearcherNameBackfill researcherNameBackfill;
+
+    @MockBean
+    private KeywordIndexInitializer keywordIndexInitializer;
+
+    @Test
+    void contextLoads() {
+    }
+}
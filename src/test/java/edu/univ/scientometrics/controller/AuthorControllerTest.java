@@ -7,11 +7,14 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
 import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
@@ -42,12 +45,16 @@ class AuthorControllerTest {
                 null
         );
 
-        when(authorService.searchByAuthor(anyString()))
-                .thenReturn(List.of(mockPublication));
+        when(authorService.searchByAuthorAsync(anyString()))
+                .thenReturn(CompletableFuture.completedFuture(List.of(mockPublication)));
 
         // Act & Assert
-        mockMvc.perform(get("/api/authors/search")
+        MvcResult asyncResult = mockMvc.perform(get("/api/authors/search")
                         .param("name", "Test Author"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(asyncResult))
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$[0].title").value("Test Paper"))
                 .andExpect(jsonPath("$[0].link").value("http://example.com"));
@@ -55,13 +62,17 @@ class AuthorControllerTest {
 
     @Test
     void searchAuthorPaginated_ShouldAcceptPaginationParams() throws Exception {
-        when(authorService.searchByAuthorWithPagination(anyString(), anyInt(), anyInt()))
-                .thenReturn(List.of());
+        when(authorService.searchByAuthorWithPaginationAsync(anyString(), anyInt(), anyInt()))
+                .thenReturn(CompletableFuture.completedFuture(List.of()));
 
-        mockMvc.perform(get("/api/authors/search/paginated")
+        MvcResult asyncResult = mockMvc.perform(get("/api/authors/search/paginated")
                         .param("name", "Test Author")
                         .param("start", "10")
                         .param("num", "5"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(asyncResult))
                 .andExpect(status().isOk());
     }
 }
\ No newline at end of file
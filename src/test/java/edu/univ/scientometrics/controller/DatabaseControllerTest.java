@@ -0,0 +1,97 @@
+package edu.univ.scientometrics.controller;
+
+import edu.univ.scientometrics.dto.ArticleDTO;
+import edu.univ.scientometrics.repository.ArticleRepository;
+import edu.univ.scientometrics.repository.ResearcherRepository;
+import edu.univ.scientometrics.service.ArticleExportService;
+import edu.univ.scientometrics.service.AuthorServiceImpl;
+import edu.univ.scientometrics.service.KeywordIndex;
+import edu.univ.scientometrics.util.PageCursors;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@WebMvcTest(DatabaseController.class)
+class DatabaseControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockBean
+    private AuthorServiceImpl authorService;
+
+    @MockBean
+    private ArticleRepository articleRepository;
+
+    @MockBean
+    private ResearcherRepository researcherRepository;
+
+    @MockBean
+    private ArticleExportService articleExportService;
+
+    @MockBean
+    private KeywordIndex keywordIndex;
+
+    @Test
+    void getAllArticles_ShouldContinueAfterTheLastArticle_OfThePreviousPage() throws Exception {
+        // Arrange: one row more than the page size means another page follows
+        when(articleRepository.findPageByCitations(null, null, 3)).thenReturn(List.of(
+                article(5L, 120), article(3L, 40), article(8L, 40)));
+        when(articleRepository.findPageByCitations(40, 3L, 3)).thenReturn(List.of(
+                article(8L, 40), article(2L, null)));
+
+        // Act & Assert: the cursor holds the sort key of the last article shown
+        String cursor = PageCursors.encode(40, 3L);
+        mockMvc.perform(get("/api/database/articles").param("size", "2"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.size").value(2))
+                .andExpect(jsonPath("$.items[1].id").value(3))
+                .andExpect(jsonPath("$.nextCursor").value(cursor));
+
+        // The last page has no cursor
+        mockMvc.perform(get("/api/database/articles").param("size", "2").param("cursor", cursor))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items[0].id").value(8))
+                .andExpect(jsonPath("$.items[1].id").value(2))
+                .andExpect(jsonPath("$.nextCursor").doesNotExist());
+    }
+
+    @Test
+    void getAllArticles_ShouldReturn400_ForInvalidSizeOrCursor() throws Exception {
+        mockMvc.perform(get("/api/database/articles").param("size", "0"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").value("size must be between 1 and 500"));
+
+        mockMvc.perform(get("/api/database/articles").param("cursor", "garbage"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").value("Invalid cursor"));
+
+        verify(articleRepository, never()).findPageByCitations(any(), any(), anyInt());
+    }
+
+    @Test
+    void getArticlesByKeyword_ShouldPageByArticleId() throws Exception {
+        when(keywordIndex.page("deep", 4L, 3)).thenReturn(new KeywordIndex.Page(7, List.of(6L, 9L, 11L)));
+
+        mockMvc.perform(get("/api/database/keywords/deep/articles")
+                        .param("size", "2")
+                        .param("cursor", PageCursors.encode(4L)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.total").value(7))
+                .andExpect(jsonPath("$.articleIds[1]").value(9))
+                .andExpect(jsonPath("$.nextCursor").value(PageCursors.encode(9L)));
+    }
+
+    private static ArticleDTO article(Long id, Integer citedBy) {
+        return new ArticleDTO(id, 1L, "Researcher", "Paper " + id, null, null, null, null, null, citedBy, null);
+    }
+}
@@ -0,0 +1,110 @@
+package edu.univ.scientometrics.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import edu.univ.scientometrics.model.ApiResponseRecord;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.lang.management.ManagementFactory;
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+class ApiResponseDecoderTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final ApiResponseDecoder decoder = new ApiResponseDecoder(objectMapper);
+
+    @Test
+    void decode_ShouldMatchDataBinding_AndSkipUnusedSubtrees() throws Exception {
+        byte[] body = sampleResponse(50).getBytes(StandardCharsets.UTF_8);
+
+        ApiResponseRecord streamed = decoder.decode(new ByteArrayInputStream(body));
+        ApiResponseRecord bound = objectMapper.readValue(new String(body, StandardCharsets.UTF_8),
+                ApiResponseRecord.class);
+
+        assertEquals(bound, streamed);
+        assertEquals(10, streamed.organicResults().size());
+        assertEquals("Success", streamed.searchMetadata().status());
+        assertEquals(42, streamed.organicResults().get(3).inlineLinks().citedBy().total());
+    }
+
+    @Test
+    void decode_ShouldReadErrorField() throws Exception {
+        byte[] body = "{\"error\":\"Invalid API key\",\"search_parameters\":{\"q\":\"x\"}}"
+                .getBytes(StandardCharsets.UTF_8);
+
+        ApiResponseRecord response = decoder.decode(body);
+
+        assertEquals("Invalid API key", response.error());
+        assertNull(response.organicResults());
+    }
+
+    /**
+     * Allocation comparison between the previous path (body as String, then
+     * data binding) and streaming decoding of the same bytes. The payload
+     * carries ~2 MB of subtrees the application never reads.
+     */
+    @Test
+    void decode_ShouldAllocateLessThanStringBuffering() throws Exception {
+        assumeTrue(ManagementFactory.getThreadMXBean() instanceof com.sun.management.ThreadMXBean);
+        com.sun.management.ThreadMXBean threads =
+                (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        assumeTrue(threads.isThreadAllocatedMemorySupported());
+
+        byte[] body = sampleResponse(20_000).getBytes(StandardCharsets.UTF_8);
+        long threadId = Thread.currentThread().getId();
+
+        // Warm up both paths so class loading is not measured
+        for (int i = 0; i < 3; i++) {
+            objectMapper.readValue(new String(body, StandardCharsets.UTF_8), ApiResponseRecord.class);
+            decoder.decode(new ByteArrayInputStream(body));
+        }
+
+        long start = threads.getThreadAllocatedBytes(threadId);
+        objectMapper.readValue(new String(body, StandardCharsets.UTF_8), ApiResponseRecord.class);
+        long buffered = threads.getThreadAllocatedBytes(threadId) - start;
+
+        start = threads.getThreadAllocatedBytes(threadId);
+        decoder.decode(new ByteArrayInputStream(body));
+        long streamed = threads.getThreadAllocatedBytes(threadId) - start;
+
+        assertTrue(streamed * 2 < buffered,
+                "streaming allocated " + streamed + " bytes vs " + buffered + " bytes buffered");
+    }
+
+    private static String sampleResponse(int relatedSearches) {
+        StringBuilder json = new StringBuilder();
+        json.append("{\"search_metadata\":{\"id\":\"abc\",\"status\":\"Success\",")
+                .append("\"created_at\":\"2024-01-01\",\"total_time_taken\":1.2},");
+        json.append("\"search_parameters\":{\"engine\":\"google_scholar\",\"q\":\"author:\\\"Test\\\"\"},");
+        json.append("\"organic_results\":[");
+        for (int i = 0; i < 10; i++) {
+            if (i > 0) {
+                json.append(',');
+            }
+            json.append("{\"position\":").append(i)
+                    .append(",\"title\":\"Paper ").append(i).append("\"")
+                    .append(",\"link\":\"https://example.com/").append(i).append("\"")
+                    .append(",\"snippet\":\"Snippet ").append(i).append("\"")
+                    .append(",\"publication_info\":{\"summary\":\"A Author - Journal, 2020 - example.com\",")
+                    .append("\"authors\":[{\"name\":\"A Author\",\"link\":\"https://example.com/a\",")
+                    .append("\"author_id\":\"AAAA\"}]}")
+                    .append(",\"inline_links\":{\"cited_by\":{\"total\":").append(39 + i)
+                    .append(",\"link\":\"https://example.com/cites\"},\"related_pages_link\":\"x\"}}");
+        }
+        json.append("],\"related_searches\":[");
+        for (int i = 0; i < relatedSearches; i++) {
+            if (i > 0) {
+                json.append(',');
+            }
+            json.append("{\"query\":\"related query number ").append(i)
+                    .append("\",\"link\":\"https://scholar.google.com/scholar?q=related+").append(i)
+                    .append("\",\"resources\":[{\"title\":\"resource\",\"file_format\":\"PDF\"}]}");
+        }
+        json.append("],\"pagination\":{\"current\":1,\"next\":\"https://example.com/next\",")
+                .append("\"other_pages\":{\"2\":\"p2\",\"3\":\"p3\"}}}");
+        return json.toString();
+    }
+}
@@ -0,0 +1,62 @@
+package edu.univ.scientometrics.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import edu.univ.scientometrics.entity.ArticleEntity;
+import edu.univ.scientometrics.entity.ResearcherEntity;
+import edu.univ.scientometrics.repository.ArticleRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ArticleExportServiceTest {
+
+    @Mock
+    private ArticleRepository articleRepository;
+
+    @Test
+    void export_ShouldWriteOneJsonObjectPerLine_AndQuoteCsvFields() throws Exception {
+        ResearcherEntity researcher = new ResearcherEntity();
+        researcher.setId(1L);
+        researcher.setName("Andrew Ng");
+        ArticleExportService exportService = new ArticleExportService(articleRepository);
+
+        when(articleRepository.streamAll()).thenAnswer(invocation -> Stream.of(
+                article(10L, researcher, "Deep Learning", 42),
+                article(11L, researcher, "Say \"hello\", world\nagain", null)));
+        ByteArrayOutputStream ndjson = new ByteArrayOutputStream();
+        assertEquals(2, exportService.export(ArticleExportService.Format.NDJSON, ndjson));
+
+        String[] lines = ndjson.toString(StandardCharsets.UTF_8).split("\n");
+        assertEquals(2, lines.length);
+        ObjectMapper objectMapper = new ObjectMapper();
+        assertEquals(42, objectMapper.readTree(lines[0]).get("citedBy").asInt());
+        assertEquals("Andrew Ng", objectMapper.readTree(lines[1]).get("researcherName").asText());
+        assertFalse(objectMapper.readTree(lines[1]).has("citedBy"));
+
+        ByteArrayOutputStream csv = new ByteArrayOutputStream();
+        assertEquals(2, exportService.export(ArticleExportService.Format.CSV, csv));
+        assertEquals(
+                "id,researcher_id,researcher_name,title,authors,publication_date,abstract,link,keywords,cited_by,snippet\r\n" +
+                        "10,1,Andrew Ng,Deep Learning,,,,,,42,\r\n" +
+                        "11,1,Andrew Ng,\"Say \"\"hello\"\", world\nagain\",,,,,,,\r\n",
+                csv.toString(StandardCharsets.UTF_8));
+    }
+
+    private static ArticleEntity article(Long id, ResearcherEntity researcher, String title, Integer citedBy) {
+        ArticleEntity article = new ArticleEntity();
+        article.setId(id);
+        article.setResearcher(researcher);
+        article.setTitle(title);
+        article.setCitedBy(citedBy);
+        return article;
+    }
+}
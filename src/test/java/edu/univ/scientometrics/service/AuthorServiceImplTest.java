@@ -1,7 +1,10 @@
 package edu.univ.scientometrics.service;
 
+import edu.univ.scientometrics.entity.ResearcherEntity;
 import edu.univ.scientometrics.exception.ApiException;
 import edu.univ.scientometrics.model.ApiResponseRecord;
+import edu.univ.scientometrics.model.AuthorInfo;
+import edu.univ.scientometrics.model.PublicationInfo;
 import edu.univ.scientometrics.model.PublicationRecord;
 import edu.univ.scientometrics.model.SearchMetadata;
 import edu.univ.scientometrics.repository.ArticleRepository;
@@ -9,11 +12,16 @@ import edu.univ.scientometrics.repository.ResearcherRepository;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
@@ -34,12 +42,19 @@ class AuthorServiceImplTest {
     @Mock
     private ResearcherRepository researcherRepository;  // NUEVO
 
+    @Mock
+    private WriteBehindArticleWriter writeBehindArticleWriter;
+
     private AuthorServiceImpl authorService;
 
     @BeforeEach
     void setUp() {
-        // Ahora con 3 parámetros
-        authorService = new AuthorServiceImpl(apiClient, articleRepository, researcherRepository);
+        authorService = new AuthorServiceImpl(
+                apiClient,
+                new ArticlePersistenceService(articleRepository, researcherRepository, event -> {}),
+                new ResearcherLocks(),
+                writeBehindArticleWriter
+        );
     }
 
     @Test
@@ -106,4 +121,230 @@ class AuthorServiceImplTest {
                 authorService.searchByAuthor("Test Author")
         );
     }
-}
\ No newline at end of file
+
+    @Test
+    void searchByAuthorAsync_ShouldCompleteExceptionally_WhenApiReturnsError() {
+        // Arrange
+        ApiResponseRecord errorResponse = new ApiResponseRecord(
+                null,
+                null,
+                "API Error occurred"
+        );
+
+        when(apiClient.getAsync(any(Map.class)))
+                .thenReturn(CompletableFuture.completedFuture(errorResponse));
+
+        // Act
+        CompletableFuture<List<PublicationRecord>> result =
+                authorService.searchByAuthorAsync("Test Author");
+
+        // Assert
+        ExecutionException thrown = assertThrows(ExecutionException.class, result::get);
+        assertInstanceOf(ApiException.class, thrown.getCause());
+        verify(apiClient, never()).get(any(Map.class));
+    }
+
+    @Test
+    void fetchAllPublicationsAsync_ShouldMergePagesInRankOrder_AndStopOnShortPage() {
+        // Arrange: 45 ranked results, the last one of page 1 repeated at the top of page 2
+        when(apiClient.getAsync(any(Map.class))).thenAnswer(invocation -> {
+            Map<String, String> params = invocation.getArgument(0);
+            int start = Integer.parseInt(params.get("start"));
+            List<PublicationRecord> page = new ArrayList<>();
+            for (int rank = start; rank < Math.min(start + 20, 45); rank++) {
+                int paper = rank == 20 ? 19 : rank;
+                page.add(new PublicationRecord("Paper " + paper, "http://example.com/" + paper, null, null, null));
+            }
+            SearchMetadata metadata = new SearchMetadata("id", "Success", "2024-01-01", 1.0);
+            return CompletableFuture.completedFuture(new ApiResponseRecord(metadata, page, null));
+        });
+
+        // Act
+        List<PublicationRecord> results =
+                authorService.fetchAllPublicationsAsync("Test Author", 200).join();
+
+        // Assert
+        assertEquals(44, results.size());
+        assertEquals("Paper 19", results.get(19).title());
+        assertEquals("Paper 21", results.get(20).title());
+        assertEquals("Paper 44", results.get(43).title());
+        verify(apiClient, times(5)).getAsync(any(Map.class));
+    }
+
+    @Test
+    void streamByAuthor_ShouldFetchPagesOnlyAsConsumed() {
+        // Arrange: 100 ranked results in pages of 20
+        when(apiClient.get(any(Map.class))).thenAnswer(invocation -> {
+            Map<String, String> params = invocation.getArgument(0);
+            int start = Integer.parseInt(params.get("start"));
+            List<PublicationRecord> page = new ArrayList<>();
+            for (int rank = start; rank < Math.min(start + 20, 100); rank++) {
+                page.add(new PublicationRecord("Paper " + rank, "http://example.com/" + rank, null, null, null));
+            }
+            SearchMetadata metadata = new SearchMetadata("id", "Success", "2024-01-01", 1.0);
+            return new ApiResponseRecord(metadata, page, null);
+        });
+
+        // Act: nothing is fetched before the stream is consumed
+        List<PublicationRecord> results;
+        try (var stream = authorService.streamByAuthor("Test Author", false)) {
+            verify(apiClient, never()).get(any(Map.class));
+            results = stream.limit(25).toList();
+        }
+
+        // Assert: two pages cover 25 results; the third is never requested
+        assertEquals(25, results.size());
+        assertEquals("Paper 24", results.get(24).title());
+        verify(apiClient, times(2)).get(any(Map.class));
+        verify(apiClient, never()).getAsync(any(Map.class));
+    }
+
+    @Test
+    void fetchAllAndStream_ShouldKeepPublicationsWithoutLinkOrTitle() {
+        // Arrange: a short page with two untitled, unlinked entries and a duplicate link
+        List<PublicationRecord> page = List.of(
+                new PublicationRecord(null, null, null, "First snippet", null),
+                new PublicationRecord(null, null, null, "Second snippet", null),
+                new PublicationRecord("Paper", "http://example.com/1", null, null, null),
+                new PublicationRecord("Paper (copy)", "http://example.com/1", null, null, null)
+        );
+        SearchMetadata metadata = new SearchMetadata("id", "Success", "2024-01-01", 1.0);
+        ApiResponseRecord response = new ApiResponseRecord(metadata, page, null);
+        when(apiClient.get(any(Map.class))).thenReturn(response);
+        when(apiClient.getAsync(any(Map.class))).thenReturn(CompletableFuture.completedFuture(response));
+
+        // Act
+        List<PublicationRecord> fetched = authorService.fetchAllPublicationsAsync("Test Author", 100).join();
+        List<PublicationRecord> streamed;
+        try (var stream = authorService.streamByAuthor("Test Author", false)) {
+            streamed = stream.toList();
+        }
+
+        // Assert: entries without a key are never collapsed; the duplicate link is
+        assertEquals(3, fetched.size());
+        assertEquals(3, streamed.size());
+        assertEquals("Second snippet", streamed.get(1).snippet());
+    }
+
+    @Test
+    void streamByAuthorWithDateRange_ShouldPageWithTheYearFilter() {
+        // Arrange: 30 results since 2022, in pages of 20
+        when(apiClient.get(any(Map.class))).thenAnswer(invocation -> {
+            Map<String, String> params = invocation.getArgument(0);
+            int start = Integer.parseInt(params.get("start"));
+            List<PublicationRecord> page = new ArrayList<>();
+            for (int rank = start; rank < Math.min(start + 20, 30); rank++) {
+                page.add(new PublicationRecord("Paper " + rank, "http://example.com/" + rank, null, null, null));
+            }
+            SearchMetadata metadata = new SearchMetadata("id", "Success", "2024-01-01", 1.0);
+            return new ApiResponseRecord(metadata, page, null);
+        });
+
+        // Act
+        List<PublicationRecord> results;
+        try (var stream = authorService.streamByAuthorWithDateRange("Test Author", 2022, null)) {
+            results = stream.toList();
+        }
+
+        // Assert: both pages carry as_ylo, and the short second page ends the stream
+        assertEquals(30, results.size());
+        ArgumentCaptor<Map<String, String>> params = ArgumentCaptor.forClass(Map.class);
+        verify(apiClient, times(2)).get(params.capture());
+        assertEquals("2022", params.getAllValues().get(1).get("as_ylo"));
+        assertEquals("20", params.getAllValues().get(1).get("start"));
+        assertFalse(params.getAllValues().get(1).containsKey("as_yhi"));
+    }
+
+    @Test
+    void searchAndQueueSave_ShouldQueueFetchedPublications_WithoutWriting() {
+        List<PublicationRecord> publications = List.of(
+                new PublicationRecord("Paper 1", "http://example.com/1", null, null, null),
+                new PublicationRecord("Paper 2", "http://example.com/2", null, null, null),
+                new PublicationRecord("Paper 3", "http://example.com/3", null, null, null)
+        );
+        SearchMetadata metadata = new SearchMetadata("id", "Success", "2024-01-01", 1.0);
+        when(apiClient.get(any(Map.class))).thenReturn(new ApiResponseRecord(metadata, publications, null));
+
+        List<PublicationRecord> queued = authorService.searchAndQueueSave("Test Author", 2);
+
+        assertEquals(2, queued.size());
+        verify(writeBehindArticleWriter).submit("Test Author", queued, 2);
+        verifyNoInteractions(researcherRepository, articleRepository);
+    }
+
+    @Test
+    void searchAndSaveToDatabase_ShouldUpsertDistinctTitles_IgnoringCaseAndPunctuation() {
+        // Arrange
+        ResearcherEntity researcher = new ResearcherEntity();
+        researcher.setId(7L);
+        when(researcherRepository.findByNormalizedName("Test Author")).thenReturn(Optional.of(researcher));
+
+        List<PublicationRecord> publications = List.of(
+                new PublicationRecord("Deep Learning: A Review", null, null, null, null),
+                new PublicationRecord("Graph Networks", null, null, null, null),
+                new PublicationRecord("GRAPH  networks.", null, null, null, null)
+        );
+        SearchMetadata metadata = new SearchMetadata("id", "Success", "2024-01-01", 1.0);
+        when(apiClient.get(any(Map.class))).thenReturn(new ApiResponseRecord(metadata, publications, null));
+
+        // Act
+        authorService.searchAndSaveToDatabase("Test Author", 10);
+
+        // Assert: one batched upsert, no per-article loads or saves
+        verify(articleRepository, times(1)).upsertAll(argThat(articles ->
+                articles.size() == 2 && "Graph Networks".equals(articles.get(1).getTitle())));
+        verify(articleRepository, never()).save(any());
+        verify(articleRepository, never()).findByResearcherId(any());
+    }
+
+    @Test
+    void searchAndSaveToDatabase_ShouldResolveResearcherByMostFrequentAuthorId() {
+        // Arrange: the searched author is on both papers, a co-author on one
+        AuthorInfo author = new AuthorInfo("L Wei", null, "wei123");
+        AuthorInfo coAuthor = new AuthorInfo("J Li", null, "li456");
+        List<PublicationRecord> publications = List.of(
+                new PublicationRecord("Paper A", null, new PublicationInfo(null, List.of(coAuthor, author)), null, null),
+                new PublicationRecord("Paper B", null, new PublicationInfo(null, List.of(author)), null, null)
+        );
+        SearchMetadata metadata = new SearchMetadata("id", "Success", "2024-01-01", 1.0);
+        when(apiClient.get(any(Map.class))).thenReturn(new ApiResponseRecord(metadata, publications, null));
+
+        ResearcherEntity researcher = new ResearcherEntity();
+        researcher.setId(3L);
+        when(researcherRepository.findByAuthorId("wei123")).thenReturn(Optional.of(researcher));
+
+        // Act
+        authorService.searchAndSaveToDatabase("Wei", 10);
+
+        // Assert: no name lookup and no new researcher
+        verify(researcherRepository, never()).findByNormalizedName(any());
+        verify(researcherRepository, never()).save(any());
+        verify(articleRepository).upsertAll(argThat(articles -> articles.get(0).getResearcher() == researcher));
+    }
+
+    @Test
+    void searchAndSaveToDatabase_ShouldIgnoreCoAuthorIds_WhenSearchedAuthorHasNoProfile() {
+        // Arrange: only the co-author has a Scholar profile, and is on every paper
+        AuthorInfo author = new AuthorInfo("W Zhang", null, null);
+        AuthorInfo coAuthor = new AuthorInfo("J Li", null, "li456");
+        List<PublicationRecord> publications = List.of(
+                new PublicationRecord("Paper A", null, new PublicationInfo(null, List.of(author, coAuthor)), null, null),
+                new PublicationRecord("Paper B", null, new PublicationInfo(null, List.of(coAuthor, author)), null, null)
+        );
+        SearchMetadata metadata = new SearchMetadata("id", "Success", "2024-01-01", 1.0);
+        when(apiClient.get(any(Map.class))).thenReturn(new ApiResponseRecord(metadata, publications, null));
+
+        ResearcherEntity researcher = new ResearcherEntity();
+        researcher.setId(4L);
+        researcher.setName("Wei Zhang");
+        when(researcherRepository.findByNormalizedName("Wei Zhang")).thenReturn(Optional.of(researcher));
+
+        // Act
+        authorService.searchAndSaveToDatabase("Wei Zhang", 10);
+
+        // Assert: resolved by name, and the co-author's ID is not taken over
+        verify(researcherRepository, never()).findByAuthorId(any());
+        assertNull(researcher.getAuthorId());
+        verify(articleRepository).upsertAll(argThat(articles -> articles.get(0).getResearcher() == researcher));
+    }
+}
@@ -0,0 +1,130 @@
+package edu.univ.scientometrics.service;
+
+import edu.univ.scientometrics.config.ApiConfig;
+import edu.univ.scientometrics.exception.ApiException;
+import edu.univ.scientometrics.model.ApiResponseRecord;
+import edu.univ.scientometrics.model.PublicationRecord;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class CachingApiClientTest {
+
+    @Mock
+    private ApiClient delegate;
+
+    private final AtomicLong clock = new AtomicLong();
+    private ApiConfig.Cache settings;
+    private CachingApiClient cachingClient;
+
+    @BeforeEach
+    void setUp() {
+        settings = new ApiConfig.Cache();
+        settings.setTtl(Duration.ofMinutes(5));
+        settings.setMaxEntries(2);
+        cachingClient = new CachingApiClient(delegate, settings, clock::get);
+    }
+
+    @Test
+    void get_ShouldServeRepeatedQueryFromCache_IgnoringApiKeyAndOrder() {
+        when(delegate.get(any(Map.class))).thenReturn(response("Paper"));
+
+        Map<String, String> first = new HashMap<>();
+        first.put("q", "author:\"Test\"");
+        first.put("num", "10");
+        first.put("api_key", "one");
+
+        Map<String, String> second = new HashMap<>();
+        second.put("num", "10");
+        second.put("q", "author:\"Test\"");
+        second.put("api_key", "two");
+
+        cachingClient.get(first);
+        ApiResponseRecord result = cachingClient.get(second);
+
+        assertEquals("Paper", result.organicResults().get(0).title());
+        verify(delegate, times(1)).get(any(Map.class));
+        assertEquals(1, cachingClient.stats().hits());
+        assertEquals(1, cachingClient.stats().misses());
+    }
+
+    @Test
+    void get_ShouldCallDelegateAgain_WhenEntryExpired() {
+        when(delegate.get(any(Map.class))).thenReturn(response("Paper"));
+
+        cachingClient.get(query("A"));
+        clock.addAndGet(Duration.ofMinutes(6).toNanos());
+        cachingClient.get(query("A"));
+
+        verify(delegate, times(2)).get(any(Map.class));
+        assertEquals(1, cachingClient.stats().expirations());
+    }
+
+    @Test
+    void get_ShouldEvictLeastRecentlyUsed_WhenFull() {
+        when(delegate.get(any(Map.class))).thenReturn(response("Paper"));
+
+        cachingClient.get(query("A"));
+        cachingClient.get(query("B"));
+        cachingClient.get(query("A"));
+        cachingClient.get(query("C"));
+
+        assertEquals(1, cachingClient.stats().evictions());
+        assertEquals(2, cachingClient.stats().entries());
+
+        cachingClient.get(query("A"));
+        verify(delegate, times(3)).get(any(Map.class));
+    }
+
+    @Test
+    void get_ShouldNotCacheErrorResponses() {
+        when(delegate.get(any(Map.class))).thenReturn(new ApiResponseRecord(null, null, "Quota exceeded"));
+
+        cachingClient.get(query("A"));
+        cachingClient.get(query("A"));
+
+        verify(delegate, times(2)).get(any(Map.class));
+        assertEquals(0, cachingClient.stats().entries());
+    }
+
+    @Test
+    void get_ShouldServeStaleEntry_WhenRefreshFails() {
+        when(delegate.get(any(Map.class)))
+                .thenReturn(response("Paper"))
+                .thenThrow(new ApiException("Circuit breaker is open", 503));
+
+        cachingClient.get(query("A"));
+        clock.addAndGet(Duration.ofMinutes(6).toNanos());
+        ApiResponseRecord result = cachingClient.get(query("A"));
+        cachingClient.get(query("A"));
+
+        // The stale entry is kept, so repeated lookups do not count as expirations
+        assertEquals("Paper", result.organicResults().get(0).title());
+        assertEquals(2, cachingClient.stats().staleHits());
+        assertEquals(0, cachingClient.stats().expirations());
+    }
+
+    private static Map<String, String> query(String author) {
+        Map<String, String> params = new HashMap<>();
+        params.put("q", "author:\"" + author + "\"");
+        return params;
+    }
+
+    private static ApiResponseRecord response(String title) {
+        PublicationRecord publication = new PublicationRecord(title, "http://example.com", null, "snippet", null);
+        return new ApiResponseRecord(null, List.of(publication), null);
+    }
+}
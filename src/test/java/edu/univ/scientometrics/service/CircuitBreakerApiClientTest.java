@@ -0,0 +1,84 @@
+package edu.univ.scientometrics.service;
+
+import edu.univ.scientometrics.config.ApiConfig;
+import edu.univ.scientometrics.exception.ApiException;
+import edu.univ.scientometrics.model.ApiResponseRecord;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CircuitBreakerApiClientTest {
+
+    private final AtomicLong clock = new AtomicLong();
+    private final AtomicInteger upstreamCalls = new AtomicInteger();
+    private final AtomicBoolean upstreamHealthy = new AtomicBoolean(false);
+    private final ApiResponseRecord response = new ApiResponseRecord(null, List.of(), null);
+
+    private CircuitBreakerApiClient breaker;
+
+    @BeforeEach
+    void setUp() {
+        ApiConfig.CircuitBreaker settings = new ApiConfig.CircuitBreaker();
+        settings.setWindowSize(4);
+        settings.setMinimumCalls(4);
+        settings.setFailureRateThreshold(50);
+        settings.setOpenDuration(Duration.ofSeconds(30));
+        settings.setHalfOpenCalls(1);
+
+        breaker = new CircuitBreakerApiClient(parameters -> {
+            upstreamCalls.incrementAndGet();
+            if (!upstreamHealthy.get()) {
+                throw new ApiException("API request failed with status: 503", 503);
+            }
+            return response;
+        }, settings, clock::get);
+    }
+
+    @Test
+    void get_ShouldFailFast_OnceFailureRateCrossesThreshold() {
+        for (int i = 0; i < 4; i++) {
+            assertThrows(ApiException.class, () -> breaker.get(new HashMap<>()));
+        }
+        assertEquals(CircuitBreakerApiClient.State.OPEN, breaker.stats().state());
+
+        ApiException rejected = assertThrows(ApiException.class, () -> breaker.get(new HashMap<>()));
+
+        assertEquals(503, rejected.getStatusCode());
+        assertEquals(4, upstreamCalls.get());
+        assertEquals(1, breaker.stats().shortCircuited());
+    }
+
+    @Test
+    void get_ShouldCloseAfterSuccessfulHalfOpenProbe() {
+        for (int i = 0; i < 4; i++) {
+            assertThrows(ApiException.class, () -> breaker.get(new HashMap<>()));
+        }
+
+        clock.addAndGet(Duration.ofSeconds(31).toNanos());
+        upstreamHealthy.set(true);
+        assertEquals(CircuitBreakerApiClient.State.HALF_OPEN, breaker.stats().state());
+
+        assertSame(response, breaker.get(new HashMap<>()));
+        assertEquals(CircuitBreakerApiClient.State.CLOSED, breaker.stats().state());
+    }
+
+    @Test
+    void get_ShouldNotCountClientErrorsAsUpstreamFailures() {
+        CircuitBreakerApiClient clientErrors = new CircuitBreakerApiClient(parameters -> {
+            throw new ApiException("API request failed with status: 401", 401);
+        }, new ApiConfig.CircuitBreaker(), clock::get);
+
+        for (int i = 0; i < 20; i++) {
+            assertThrows(ApiException.class, () -> clientErrors.get(new HashMap<>()));
+        }
+        assertEquals(CircuitBreakerApiClient.State.CLOSED, clientErrors.stats().state());
+    }
+}
@@ -0,0 +1,115 @@
+package edu.univ.scientometrics.service;
+
+import edu.univ.scientometrics.config.ApiConfig;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class DiskResponseStoreTest {
+
+    @TempDir
+    Path directory;
+
+    private ApiConfig.DiskCache settings;
+    private DiskResponseStore store;
+
+    @BeforeEach
+    void setUp() {
+        settings = new ApiConfig.DiskCache();
+        settings.setDirectory(directory.toString());
+        settings.setMaxSegmentBytes(256);
+        settings.setCompactionInterval(Duration.ZERO);
+        store = new DiskResponseStore(settings);
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        store.close();
+    }
+
+    @Test
+    void get_ShouldServeEntriesWrittenBeforeRestart() throws IOException {
+        for (int i = 0; i < 10; i++) {
+            store.put("q=" + i, bytes("response " + i));
+        }
+        store.put("q=3", bytes("newer response 3"));
+        assertTrue(store.stats().segments() > 1);
+
+        store.close();
+        store = new DiskResponseStore(settings);
+
+        assertEquals(10, store.stats().entries());
+        assertEquals("response 7", text(store.get("q=7")));
+        assertEquals("newer response 3", text(store.get("q=3")));
+        assertNull(store.get("q=missing"));
+    }
+
+    @Test
+    void open_ShouldDropTornRecordAtEndOfLastSegment() throws IOException {
+        store.put("q=a", bytes("complete"));
+        store.close();
+
+        Path segment = directory.resolve("segment-000001.log");
+        Files.write(segment, new byte[] {0, 0, 0, 3, 0, 0}, StandardOpenOption.APPEND);
+
+        store = new DiskResponseStore(settings);
+        store.put("q=b", bytes("after crash"));
+
+        assertEquals("complete", text(store.get("q=a")));
+        assertEquals("after crash", text(store.get("q=b")));
+    }
+
+    @Test
+    void compact_ShouldRewriteLiveRecordsAndDeleteSupersededSegments() throws IOException {
+        for (int round = 0; round < 3; round++) {
+            for (int i = 0; i < 5; i++) {
+                store.put("q=" + i, bytes("round " + round + " response " + i));
+            }
+        }
+        DiskResponseStore.Stats before = store.stats();
+
+        assertTrue(store.compact() > 0);
+
+        DiskResponseStore.Stats after = store.stats();
+        assertTrue(after.bytes() < before.bytes());
+        assertEquals(5, after.entries());
+        for (int i = 0; i < 5; i++) {
+            assertEquals("round 2 response " + i, text(store.get("q=" + i)));
+        }
+    }
+
+    @Test
+    void get_ShouldIgnoreEntriesOlderThanTtl() throws IOException {
+        store.close();
+        Instant now = Instant.parse("2024-01-01T00:00:00Z");
+        settings.setTtl(Duration.ofDays(1));
+        store = new DiskResponseStore(settings, Clock.fixed(now.minus(Duration.ofDays(2)), ZoneOffset.UTC));
+        store.put("q=old", bytes("old"));
+        store.close();
+
+        store = new DiskResponseStore(settings, Clock.fixed(now, ZoneOffset.UTC));
+
+        assertNull(store.get("q=old"));
+    }
+
+    private static byte[] bytes(String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static String text(byte[] value) {
+        return value == null ? null : new String(value, StandardCharsets.UTF_8);
+    }
+}
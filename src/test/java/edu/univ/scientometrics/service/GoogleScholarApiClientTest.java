@@ -0,0 +1,114 @@
+package edu.univ.scientometrics.service;
+
+import com.sun.net.httpserver.HttpServer;
+import edu.univ.scientometrics.config.ApiConfig;
+import edu.univ.scientometrics.model.ApiResponseRecord;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.zip.GZIPOutputStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Runs the client against a local stand-in for SerpApi.
+ */
+class GoogleScholarApiClientTest {
+
+    private final AtomicReference<String> acceptEncoding = new AtomicReference<>();
+    private HttpServer server;
+    private ApiConfig apiConfig;
+    private byte[] json;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        StringBuilder results = new StringBuilder();
+        for (int i = 0; i < 200; i++) {
+            if (i > 0) {
+                results.append(',');
+            }
+            results.append("{\"position\":").append(i)
+                    .append(",\"title\":\"Deep learning for scientometrics, part ").append(i)
+                    .append("\",\"snippet\":\"A repetitive snippet that compresses well.\"}");
+        }
+        json = ("{\"search_metadata\":{\"status\":\"Success\"},\"organic_results\":[" + results + "]}")
+                .getBytes(StandardCharsets.UTF_8);
+
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.createContext("/search", exchange -> {
+            String encoding = exchange.getRequestHeaders().getFirst("Accept-Encoding");
+            acceptEncoding.set(encoding);
+
+            byte[] body = json;
+            if (encoding != null && encoding.contains("gzip")) {
+                ByteArrayOutputStream compressed = new ByteArrayOutputStream();
+                try (GZIPOutputStream gzip = new GZIPOutputStream(compressed)) {
+                    gzip.write(json);
+                }
+                body = compressed.toByteArray();
+                exchange.getResponseHeaders().set("Content-Encoding", "gzip");
+            }
+            exchange.getResponseHeaders().set("Content-Type", "application/json");
+            exchange.sendResponseHeaders(200, body.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(body);
+            }
+        });
+        server.start();
+
+        apiConfig = new ApiConfig();
+        apiConfig.setApiKey("test-key");
+        apiConfig.setBaseUrl("http://127.0.0.1:" + server.getAddress().getPort() + "/search");
+    }
+
+    @AfterEach
+    void tearDown() {
+        server.stop(0);
+    }
+
+    @Test
+    void get_ShouldRequestAndDecompressGzipBodies() {
+        GoogleScholarApiClient client = new GoogleScholarApiClient(apiConfig);
+
+        ApiResponseRecord response = client.get(query());
+        ApiResponseRecord asyncResponse = client.getAsync(query()).join();
+
+        assertEquals("gzip, deflate", acceptEncoding.get());
+        assertEquals(200, response.organicResults().size());
+        assertEquals(200, asyncResponse.organicResults().size());
+
+        GoogleScholarApiClient.Stats stats = client.stats();
+        assertEquals(2, stats.compressedResponses());
+        assertEquals(2L * json.length, stats.decodedBytes());
+        assertTrue(stats.wireBytes() * 5 < stats.decodedBytes(),
+                "expected gzip to shrink the transfer, wire=" + stats.wireBytes());
+    }
+
+    @Test
+    void get_ShouldReadIdentityBodies_WhenCompressionDisabled() {
+        apiConfig.getHttp().setCompression(false);
+        GoogleScholarApiClient client = new GoogleScholarApiClient(apiConfig);
+
+        ApiResponseRecord response = client.get(query());
+
+        assertNull(acceptEncoding.get());
+        assertEquals(200, response.organicResults().size());
+        assertEquals(0, client.stats().compressedResponses());
+        assertEquals(json.length, client.stats().wireBytes());
+    }
+
+    private static Map<String, String> query() {
+        Map<String, String> parameters = new HashMap<>();
+        parameters.put("q", "author:\"Test\"");
+        return parameters;
+    }
+}
@@ -0,0 +1,91 @@
+package edu.univ.scientometrics.service;
+
+import edu.univ.scientometrics.config.IngestionConfig;
+import edu.univ.scientometrics.dto.IngestionJobStatus;
+import edu.univ.scientometrics.exception.ApiException;
+import edu.univ.scientometrics.model.PublicationRecord;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class IngestionJobServiceTest {
+
+    @Mock
+    private AuthorService authorService;
+
+    private IngestionJobService ingestionJobService;
+
+    @BeforeEach
+    void setUp() {
+        IngestionConfig config = new IngestionConfig();
+        config.setConcurrency(3);
+        ingestionJobService = new IngestionJobService(authorService, config);
+    }
+
+    @AfterEach
+    void tearDown() {
+        ingestionJobService.shutdown();
+    }
+
+    @Test
+    void submit_ShouldProcessResearchersConcurrently_WithinTheConfiguredBound() throws Exception {
+        AtomicInteger inFlight = new AtomicInteger();
+        AtomicInteger maxInFlight = new AtomicInteger();
+        PublicationRecord paper = new PublicationRecord("Paper", null, null, null, null);
+
+        when(authorService.searchAndSaveToDatabase(anyString(), anyInt())).thenAnswer(invocation -> {
+            maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+            Thread.sleep(50);
+            inFlight.decrementAndGet();
+            if ("Broken Name".equals(invocation.getArgument(0))) {
+                throw new ApiException("API request failed with status: 500", 500);
+            }
+            return List.of(paper, paper);
+        });
+
+        List<String> names = List.of("A", "B", "C", "D", "E", "F", "Broken Name", " ", "A");
+        IngestionJobStatus submitted = ingestionJobService.submit(names, 3);
+        assertEquals(7, submitted.total());
+
+        IngestionJobStatus status = awaitCompletion(submitted.jobId());
+
+        assertEquals("COMPLETED", status.state());
+        assertEquals(6, status.succeeded());
+        assertEquals(1, status.failed());
+        assertEquals(12, status.articlesFound());
+        assertEquals(0L, status.etaSeconds());
+        assertTrue(status.researchersPerMinute() > 0);
+        assertEquals("FAILED", status.researchers().get(6).state());
+        assertTrue(maxInFlight.get() > 1 && maxInFlight.get() <= 3, "max in flight " + maxInFlight.get());
+    }
+
+    @Test
+    void submit_ShouldRejectEmptyJobs() {
+        assertThrows(IllegalArgumentException.class, () -> ingestionJobService.submit(List.of(" "), 3));
+        assertTrue(ingestionJobService.status("unknown").isEmpty());
+    }
+
+    private IngestionJobStatus awaitCompletion(String jobId) throws InterruptedException {
+        for (int i = 0; i < 200; i++) {
+            IngestionJobStatus status = ingestionJobService.status(jobId).orElseThrow();
+            if ("COMPLETED".equals(status.state())) {
+                return status;
+            }
+            Thread.sleep(20);
+        }
+        fail("Job did not complete in time");
+        return null;
+    }
+}
@@ -0,0 +1,76 @@
+package edu.univ.scientometrics.service;
+
+import edu.univ.scientometrics.dto.ArticleKeywords;
+import edu.univ.scientometrics.dto.KeywordCountDTO;
+import edu.univ.scientometrics.repository.ArticleRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class KeywordIndexTest {
+
+    @Mock
+    private ArticleRepository articleRepository;
+
+    @Test
+    void rebuildAndUpdate_ShouldKeepPostingListsSortedAndCurrent() {
+        KeywordIndex index = new KeywordIndex(articleRepository);
+        when(articleRepository.streamKeywords()).thenAnswer(invocation -> Stream.of(
+                new ArticleKeywords(1L, 7L, "deep, learning"),
+                new ArticleKeywords(2L, 8L, "learning, theory"),
+                new ArticleKeywords(3L, 7L, "deep, networks, deep")));
+        index.rebuild();
+
+        assertEquals(List.of(1L, 2L), index.articleIds("Learning", 0, 10));
+        assertEquals(List.of(3L), index.articleIds("deep", 1, 10));
+        assertEquals(List.of(
+                new KeywordCountDTO("deep", 2),
+                new KeywordCountDTO("learning", 1)), index.topKeywords(7L, 2));
+
+        // Article 1 loses "deep", article 3 is gone, article 4 is new
+        index.update(7L, List.of(
+                new ArticleKeywords(1L, 7L, "learning"),
+                new ArticleKeywords(4L, 7L, "deep, learning")));
+
+        assertEquals(List.of(4L), index.articleIds("deep", 0, 10));
+        assertEquals(List.of(1L, 2L, 4L), index.articleIds("learning", 0, 10));
+        assertEquals(0, index.count("networks"));
+        assertEquals(List.of(new KeywordCountDTO("learning", 2)), index.topKeywords(7L, 1));
+        assertEquals(3, index.stats().articles());
+        assertEquals(3, index.stats().terms());
+        assertEquals(5, index.stats().postings());
+
+        // A page and its total come from the same posting list
+        KeywordIndex.Page page = index.page("learning", 1, 1);
+        assertEquals(3, page.total());
+        assertEquals(List.of(2L), page.articleIds());
+
+        // Article 4 drops every keyword, researcher 8 loses its only article
+        index.update(7L, List.of(
+                new ArticleKeywords(4L, 7L, null),
+                new ArticleKeywords(1L, 7L, "learning")));
+        index.update(8L, List.of());
+
+        assertEquals(List.of(1L), index.articleIds("learning", 0, 10));
+        assertEquals(0, index.count("deep"));
+        assertEquals(1, index.stats().terms());
+        assertEquals(2, index.stats().articles());
+        assertEquals(1, index.stats().researchers());
+    }
+
+    @Test
+    void merge_ShouldAddAndRemoveIdsInOrder() {
+        assertArrayEquals(new int[]{1, 3, 4, 9},
+                KeywordIndex.merge(new int[]{1, 4, 5, 9}, new int[]{3, 4}, new int[]{5, 7}));
+        assertArrayEquals(new int[0],
+                KeywordIndex.merge(new int[]{2}, new int[0], new int[]{2}));
+    }
+}
@@ -0,0 +1,94 @@
+package edu.univ.scientometrics.service;
+
+import edu.univ.scientometrics.config.ApiConfig;
+import edu.univ.scientometrics.exception.ApiException;
+import edu.univ.scientometrics.model.ApiResponseRecord;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.HashMap;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RateLimitingApiClientTest {
+
+    private final ApiResponseRecord response = new ApiResponseRecord(null, List.of(), null);
+
+    @Test
+    void get_ShouldRejectWith429_WhenHourlyBudgetExhaustedAndResetIsBeyondMaxWait() {
+        ApiConfig.RateLimit settings = new ApiConfig.RateLimit();
+        settings.setRequestsPerSecond(1000);
+        settings.setBurst(10);
+        settings.setHourlyBudget(2);
+        settings.setMaxWait(Duration.ofSeconds(1));
+
+        Clock clock = Clock.fixed(Instant.parse("2024-01-01T10:15:00Z"), ZoneOffset.UTC);
+        RateLimitingApiClient client = new RateLimitingApiClient(
+                parameters -> response, settings, clock, System::nanoTime);
+
+        client.get(new HashMap<>());
+        client.get(new HashMap<>());
+        ApiException thrown = assertThrows(ApiException.class, () -> client.get(new HashMap<>()));
+
+        assertEquals(429, thrown.getStatusCode());
+        assertEquals(0, client.stats().hourlyBudgetRemaining());
+        assertEquals(-1, client.stats().monthlyBudgetRemaining());
+        assertEquals(1, client.stats().rejected());
+    }
+
+    @Test
+    void get_ShouldDelayRequestsBeyondBurst_InsteadOfFailing() {
+        ApiConfig.RateLimit settings = new ApiConfig.RateLimit();
+        settings.setRequestsPerSecond(20);
+        settings.setBurst(1);
+        settings.setMaxWait(Duration.ofSeconds(2));
+
+        RateLimitingApiClient client = new RateLimitingApiClient(parameters -> response, settings);
+
+        long start = System.nanoTime();
+        for (int i = 0; i < 5; i++) {
+            assertSame(response, client.get(new HashMap<>()));
+        }
+        long elapsedMillis = Duration.ofNanos(System.nanoTime() - start).toMillis();
+
+        // 1 burst permit + 4 permits spaced 50 ms apart
+        assertTrue(elapsedMillis >= 190, "elapsed " + elapsedMillis + " ms");
+        assertEquals(5, client.stats().admitted());
+        assertEquals(4, client.stats().delayed());
+    }
+
+    @Test
+    void stats_ShouldKeepUsedCredits_AcrossRestarts(@TempDir Path directory) {
+        ApiConfig.RateLimit settings = new ApiConfig.RateLimit();
+        settings.setRequestsPerSecond(1000);
+        settings.setBurst(10);
+        settings.setHourlyBudget(5);
+        settings.setMonthlyBudget(100);
+        settings.setUsageFile(directory.resolve("usage.properties").toString());
+
+        Clock clock = Clock.fixed(Instant.parse("2024-01-01T10:15:00Z"), ZoneOffset.UTC);
+        RateLimitingApiClient client = new RateLimitingApiClient(
+                parameters -> response, settings, clock, System::nanoTime);
+        client.get(new HashMap<>());
+        client.get(new HashMap<>());
+
+        // Same hour after a restart: both budgets resume
+        RateLimitingApiClient restarted = new RateLimitingApiClient(
+                parameters -> response, settings, clock, System::nanoTime);
+        assertEquals(3, restarted.stats().hourlyBudgetRemaining());
+        assertEquals(98, restarted.stats().monthlyBudgetRemaining());
+
+        // Next hour: only the monthly usage carries over
+        Clock later = Clock.fixed(Instant.parse("2024-01-01T11:05:00Z"), ZoneOffset.UTC);
+        RateLimitingApiClient nextHour = new RateLimitingApiClient(
+                parameters -> response, settings, later, System::nanoTime);
+        assertEquals(5, nextHour.stats().hourlyBudgetRemaining());
+        assertEquals(98, nextHour.stats().monthlyBudgetRemaining());
+    }
+}
@@ -0,0 +1,89 @@
+package edu.univ.scientometrics.service;
+
+import edu.univ.scientometrics.config.ApiConfig;
+import edu.univ.scientometrics.exception.ApiException;
+import edu.univ.scientometrics.model.ApiResponseRecord;
+import edu.univ.scientometrics.model.PublicationRecord;
+import edu.univ.scientometrics.model.SearchMetadata;
+import edu.univ.scientometrics.util.RequestKeys;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ReplayApiClientTest {
+
+    @TempDir
+    Path directory;
+
+    private ResponseFixtures fixtures;
+    private ApiConfig.Replay settings;
+
+    @BeforeEach
+    void setUp() {
+        fixtures = new ResponseFixtures(directory.toString());
+        settings = new ApiConfig.Replay();
+        settings.setDirectory(directory.toString());
+    }
+
+    @Test
+    void get_ShouldReplayWhatWasRecorded_WithoutTheApiKey() throws Exception {
+        ApiResponseRecord live = new ApiResponseRecord(
+                new SearchMetadata("id", "Success", "2024-01-01", 1.0),
+                List.of(new PublicationRecord("Recorded Paper", "http://example.com", null, null, null)),
+                null
+        );
+        RecordingApiClient recorder = new RecordingApiClient(parameters -> {
+            parameters.put("api_key", "secret-key");
+            return live;
+        }, fixtures);
+
+        recorder.get(query("A Ng"));
+        ReplayApiClient replay = new ReplayApiClient(fixtures, settings);
+        ApiResponseRecord replayed = replay.get(query("A Ng"));
+
+        assertEquals("Recorded Paper", replayed.organicResults().get(0).title());
+        assertEquals("Success", replayed.searchMetadata().status());
+        try (var files = Files.list(directory)) {
+            String content = Files.readString(files.findFirst().orElseThrow());
+            assertFalse(content.contains("secret-key"));
+        }
+
+        ApiException missing = assertThrows(ApiException.class, () -> replay.get(query("Someone Else")));
+        assertEquals(404, missing.getStatusCode());
+    }
+
+    @Test
+    void get_ShouldInjectConfiguredErrors() {
+        fixtures.write(RequestKeys.normalize(query("A Ng")), new ApiResponseRecord(null, List.of(), null));
+        settings.setErrorRate(0.5);
+        Random random = new Random(42);
+        ReplayApiClient replay = new ReplayApiClient(fixtures, settings, () -> random);
+
+        int failures = 0;
+        for (int i = 0; i < 200; i++) {
+            try {
+                replay.getAsync(query("A Ng")).join();
+            } catch (RuntimeException e) {
+                failures++;
+            }
+        }
+
+        assertEquals(failures, replay.stats().injectedErrors());
+        assertTrue(failures > 0 && failures < 200);
+    }
+
+    private static Map<String, String> query(String author) {
+        Map<String, String> parameters = new HashMap<>();
+        parameters.put("q", "author:\"" + author + "\"");
+        return parameters;
+    }
+}
@@ -0,0 +1,94 @@
+package edu.univ.scientometrics.service;
+
+import edu.univ.scientometrics.exception.DatabaseException;
+import org.junit.jupiter.api.Test;
+
+import java.sql.SQLIntegrityConstraintViolationException;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ResearcherLocksTest {
+
+    private final ResearcherLocks locks = new ResearcherLocks();
+
+    @Test
+    void run_ShouldSerializeSameAuthor_AndLetOtherAuthorsProceed() throws Exception {
+        assertEquals(ResearcherLocks.stripe("Andrew Ng"), ResearcherLocks.stripe("ANDREW  NG."));
+        assertNotEquals(ResearcherLocks.stripe("Andrew Ng"), ResearcherLocks.stripe("Yoshua Bengio"));
+
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            AtomicInteger inFlight = new AtomicInteger();
+            AtomicInteger maxInFlight = new AtomicInteger();
+            List<Future<Integer>> sameAuthor = List.of(
+                    executor.submit(() -> locks.run(List.of("Andrew Ng"), () -> track(inFlight, maxInFlight))),
+                    executor.submit(() -> locks.run(List.of("ANDREW  NG."), () -> track(inFlight, maxInFlight))),
+                    executor.submit(() -> locks.run(List.of("andrew ng"), () -> track(inFlight, maxInFlight)))
+            );
+            for (Future<Integer> save : sameAuthor) {
+                save.get(5, TimeUnit.SECONDS);
+            }
+            assertEquals(1, maxInFlight.get());
+
+            // A save for another author runs while the first author's lock is held
+            CountDownLatch otherAuthorRan = new CountDownLatch(1);
+            Future<Boolean> holder = executor.submit(() -> locks.run(List.of("Andrew Ng"),
+                    () -> await(otherAuthorRan)));
+            executor.submit(() -> locks.run(List.of("Yoshua Bengio"), () -> {
+                otherAuthorRan.countDown();
+                return null;
+            }));
+            assertTrue(holder.get(5, TimeUnit.SECONDS));
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void run_ShouldRetryConstraintViolations_ButNotOtherFailures() {
+        AtomicInteger attempts = new AtomicInteger();
+        int result = locks.run(List.of("Andrew Ng"), () -> {
+            if (attempts.incrementAndGet() == 1) {
+                throw new DatabaseException("Failed to save articles to database",
+                        new SQLIntegrityConstraintViolationException("Duplicate entry 'abc' for key 'author_id'"));
+            }
+            return 3;
+        });
+        assertEquals(3, result);
+        assertEquals(2, attempts.get());
+
+        AtomicInteger failures = new AtomicInteger();
+        assertThrows(IllegalStateException.class, () -> locks.run(List.of("Andrew Ng"), () -> {
+            failures.incrementAndGet();
+            throw new IllegalStateException("boom");
+        }));
+        assertEquals(1, failures.get());
+    }
+
+    private static int track(AtomicInteger inFlight, AtomicInteger maxInFlight) {
+        maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+        try {
+            Thread.sleep(30);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        inFlight.decrementAndGet();
+        return 1;
+    }
+
+    private static boolean await(CountDownLatch latch) {
+        try {
+            return latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+}
@@ -0,0 +1,89 @@
+package edu.univ.scientometrics.service;
+
+import edu.univ.scientometrics.config.RefreshConfig;
+import edu.univ.scientometrics.entity.ResearcherEntity;
+import edu.univ.scientometrics.repository.ResearcherRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ResearcherRefreshSchedulerTest {
+
+    private static final LocalDateTime NOW = LocalDateTime.of(2024, 6, 1, 12, 0);
+
+    @Mock
+    private AuthorService authorService;
+
+    @Mock
+    private ArticlePersistenceService articlePersistenceService;
+
+    @Mock
+    private ResearcherRepository researcherRepository;
+
+    private ResearcherRefreshScheduler scheduler;
+
+    @BeforeEach
+    void setUp() {
+        RefreshConfig config = new RefreshConfig();
+        config.setCreditsPerHour(2);
+        Clock clock = Clock.fixed(Instant.from(NOW.atOffset(ZoneOffset.UTC)), ZoneOffset.UTC);
+        scheduler = new ResearcherRefreshScheduler(
+                authorService, articlePersistenceService, researcherRepository, new ResearcherLocks(), config, clock);
+    }
+
+    @AfterEach
+    void tearDown() {
+        scheduler.shutdown();
+    }
+
+    @Test
+    void refreshDue_ShouldRefreshMostStaleAndActiveFirst_WithinCreditBudget() {
+        ResearcherEntity quiet = researcher(1L, "Quiet", NOW.minusDays(20), 0);
+        ResearcherEntity active = researcher(2L, "Active", NOW.minusDays(10), 30);
+        ResearcherEntity oldest = researcher(3L, "Oldest", NOW.minusYears(2), 0);
+        when(researcherRepository.findStale(eq(NOW.minusDays(8)), anyInt()))
+                .thenReturn(List.of(oldest, quiet, active));
+        when(authorService.streamByAuthorWithDateRange(any(), any(), any())).thenAnswer(invocation -> Stream.empty());
+
+        // Budget of 2 credits: "Quiet" (20 days, no activity) loses to "Active" (10 days, 30 recent)
+        assertEquals(2, scheduler.refreshDue());
+
+        InOrder order = inOrder(authorService);
+        order.verify(authorService).streamByAuthorWithDateRange("Oldest", 2022, null);
+        order.verify(authorService).streamByAuthorWithDateRange("Active", 2024, null);
+        verify(authorService, never()).streamByAuthorWithDateRange(eq("Quiet"), any(), any());
+        verify(articlePersistenceService).refreshArticles(eq(3L), anyList(), anyInt());
+
+        // The budget is spent until it refills
+        assertEquals(0, scheduler.refreshDue());
+        assertEquals(2, scheduler.stats().refreshed());
+    }
+
+    private static ResearcherEntity researcher(Long id, String name, LocalDateTime updatedAt, int recent) {
+        ResearcherEntity researcher = new ResearcherEntity();
+        researcher.setId(id);
+        researcher.setName(name);
+        researcher.setUpdatedAt(updatedAt);
+        researcher.setRecentPublications(recent);
+        return researcher;
+    }
+}
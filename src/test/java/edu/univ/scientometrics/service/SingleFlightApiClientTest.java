@@ -0,0 +1,117 @@
+package edu.univ.scientometrics.service;
+
+import edu.univ.scientometrics.exception.ApiException;
+import edu.univ.scientometrics.model.ApiResponseRecord;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SingleFlightApiClientTest {
+
+    private static final int CALLERS = 8;
+
+    @Test
+    void get_ShouldShareOneRequest_AmongConcurrentIdenticalCallers() throws Exception {
+        AtomicInteger calls = new AtomicInteger();
+        CountDownLatch release = new CountDownLatch(1);
+        ApiResponseRecord expected = new ApiResponseRecord(null, List.of(), null);
+
+        SingleFlightApiClient client = new SingleFlightApiClient(parameters -> {
+            calls.incrementAndGet();
+            await(release);
+            return expected;
+        });
+
+        List<Future<ApiResponseRecord>> results = runConcurrently(client, release);
+
+        for (Future<ApiResponseRecord> result : results) {
+            assertSame(expected, result.get(5, TimeUnit.SECONDS));
+        }
+        assertEquals(1, calls.get());
+        assertEquals(CALLERS - 1, client.stats().coalesced());
+        assertEquals(0, client.stats().inFlight());
+    }
+
+    @Test
+    void get_ShouldPropagateSameFailure_ToAllCallers() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        ApiException failure = new ApiException("API request failed with status: 503", 503);
+
+        SingleFlightApiClient client = new SingleFlightApiClient(parameters -> {
+            await(release);
+            throw failure;
+        });
+
+        List<Future<ApiResponseRecord>> results = runConcurrently(client, release);
+
+        for (Future<ApiResponseRecord> result : results) {
+            Exception thrown = assertThrows(Exception.class, () -> result.get(5, TimeUnit.SECONDS));
+            assertSame(failure, thrown.getCause());
+        }
+    }
+
+    @Test
+    void get_ShouldReleaseWaiters_WhenDelegateThrowsError() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        AssertionError failure = new AssertionError("delegate broke");
+
+        SingleFlightApiClient client = new SingleFlightApiClient(parameters -> {
+            await(release);
+            throw failure;
+        });
+
+        List<Future<ApiResponseRecord>> results = runConcurrently(client, release);
+
+        for (Future<ApiResponseRecord> result : results) {
+            Exception thrown = assertThrows(Exception.class, () -> result.get(5, TimeUnit.SECONDS));
+            assertSame(failure, thrown.getCause());
+        }
+        assertEquals(0, client.stats().inFlight());
+    }
+
+    private static List<Future<ApiResponseRecord>> runConcurrently(SingleFlightApiClient client,
+                                                                   CountDownLatch release) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(CALLERS);
+        try {
+            List<Future<ApiResponseRecord>> results = new ArrayList<>();
+            for (int i = 0; i < CALLERS; i++) {
+                results.add(executor.submit(() -> client.get(query())));
+            }
+            // Wait until every caller has either started the request or joined it
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+            while (client.stats().executed() + client.stats().coalesced() < CALLERS
+                    && System.nanoTime() < deadline) {
+                Thread.sleep(5);
+            }
+            release.countDown();
+            return results;
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    private static Map<String, String> query() {
+        Map<String, String> params = new HashMap<>();
+        params.put("q", "author:\"Test Author\"");
+        return params;
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
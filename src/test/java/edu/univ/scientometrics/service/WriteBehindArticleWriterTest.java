@@ -0,0 +1,117 @@
+package edu.univ.scientometrics.service;
+
+import edu.univ.scientometrics.config.WriteBehindConfig;
+import edu.univ.scientometrics.exception.ApiException;
+import edu.univ.scientometrics.model.PublicationRecord;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class WriteBehindArticleWriterTest {
+
+    private static final List<PublicationRecord> PAPERS =
+            List.of(new PublicationRecord("Paper", null, null, null, null));
+
+    @Mock
+    private ArticlePersistenceService articlePersistenceService;
+
+    @Test
+    void submit_ShouldCoalesceQueuedSaves_AndApplyBackpressure_ThenFlushOnShutdown() throws Exception {
+        WriteBehindConfig config = new WriteBehindConfig();
+        config.setQueueCapacity(3);
+        config.setBatchSize(10);
+        config.setEnqueueTimeout(Duration.ofMillis(50));
+
+        // Hold the writer inside its first batch so later saves pile up
+        CountDownLatch firstBatchStarted = new CountDownLatch(1);
+        CountDownLatch releaseWriter = new CountDownLatch(1);
+        List<Integer> batchSizes = new ArrayList<>();
+        when(articlePersistenceService.upsertArticles(anyList())).thenAnswer(invocation -> {
+            List<?> batch = invocation.getArgument(0);
+            synchronized (batchSizes) {
+                batchSizes.add(batch.size());
+            }
+            firstBatchStarted.countDown();
+            releaseWriter.await();
+            return batch.size();
+        });
+
+        WriteBehindArticleWriter writer = new WriteBehindArticleWriter(articlePersistenceService, new ResearcherLocks(), config);
+        writer.submit("First", PAPERS, 3);
+        assertTrue(firstBatchStarted.await(5, TimeUnit.SECONDS));
+
+        writer.submit("A", PAPERS, 3);
+        writer.submit("B", PAPERS, 3);
+        writer.submit("C", PAPERS, 3);
+        ApiException full = assertThrows(ApiException.class, () -> writer.submit("D", PAPERS, 3));
+        assertEquals(503, full.getStatusCode());
+
+        releaseWriter.countDown();
+        writer.shutdown();
+
+        // The three waiting saves were written together in one transaction
+        assertEquals(List.of(1, 3), batchSizes);
+        WriteBehindArticleWriter.Stats stats = writer.stats();
+        assertEquals(4, stats.saved());
+        assertEquals(1, stats.rejected());
+        assertEquals(0, stats.queued());
+    }
+
+    @Test
+    void write_ShouldRecordFailedSaves_InStats() {
+        when(articlePersistenceService.upsertArticles(anyList()))
+                .thenThrow(new IllegalStateException("database down"));
+
+        WriteBehindArticleWriter writer = new WriteBehindArticleWriter(
+                articlePersistenceService, new ResearcherLocks(), new WriteBehindConfig());
+        writer.submit("Broken", PAPERS, 3);
+        writer.shutdown();
+
+        WriteBehindArticleWriter.Stats stats = writer.stats();
+        assertEquals(1, stats.failed());
+        assertEquals(1, stats.recentFailures().size());
+        WriteBehindArticleWriter.FailedSave failure = stats.recentFailures().get(0);
+        assertEquals("Broken", failure.authorName());
+        assertEquals(1, failure.publications());
+        assertEquals("database down", failure.error());
+    }
+
+    @Test
+    void shutdown_ShouldReportUnwrittenSaves_WhenTimeoutRunsOut() throws Exception {
+        WriteBehindConfig config = new WriteBehindConfig();
+        config.setBatchSize(1);
+        config.setShutdownTimeout(Duration.ofMillis(50));
+
+        CountDownLatch firstBatchStarted = new CountDownLatch(1);
+        CountDownLatch releaseWriter = new CountDownLatch(1);
+        when(articlePersistenceService.upsertArticles(anyList())).thenAnswer(invocation -> {
+            firstBatchStarted.countDown();
+            releaseWriter.await();
+            return 1;
+        });
+
+        WriteBehindArticleWriter writer = new WriteBehindArticleWriter(articlePersistenceService, new ResearcherLocks(), config);
+        writer.submit("Slow", PAPERS, 3);
+        assertTrue(firstBatchStarted.await(5, TimeUnit.SECONDS));
+        writer.submit("A", PAPERS, 3);
+        writer.submit("B", PAPERS, 3);
+
+        writer.shutdown();
+        releaseWriter.countDown();
+
+        assertEquals(2, writer.stats().abandoned());
+        assertEquals(0, writer.stats().queued());
+    }
+}
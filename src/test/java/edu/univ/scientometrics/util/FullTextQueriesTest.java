@@ -0,0 +1,44 @@
+package edu.univ.scientometrics.util;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class FullTextQueriesTest {
+
+    @Test
+    void toBooleanQuery_ShouldKeepRequiredExcludedAndPrefixTerms() {
+        assertEquals("deep +learning -survey", FullTextQueries.toBooleanQuery("deep +learning -survey"));
+        assertEquals("neur* +graph*", FullTextQueries.toBooleanQuery("  neur*   +graph* "));
+    }
+
+    @Test
+    void toBooleanQuery_ShouldKeepPhrases_WithTheirOperator() {
+        assertEquals("deep +\"neural network\" -\"literature review\"",
+                FullTextQueries.toBooleanQuery("deep +\"neural network\" -\"literature review\""));
+        assertEquals("\"graph neural networks\"",
+                FullTextQueries.toBooleanQuery("\"graph, neural (networks)\""));
+    }
+
+    @Test
+    void toBooleanQuery_ShouldCloseUnbalancedQuotes() {
+        assertEquals("\"neural network\"", FullTextQueries.toBooleanQuery("\"neural network"));
+        assertEquals("deep", FullTextQueries.toBooleanQuery("deep -\""));
+    }
+
+    @Test
+    void toBooleanQuery_ShouldTurnPunctuationInsideWordsIntoPhrases() {
+        assertEquals("\"covid 19\"", FullTextQueries.toBooleanQuery("covid-19"));
+        assertEquals("-\"don t\"", FullTextQueries.toBooleanQuery("-don't"));
+        assertEquals("\"foo bar\"", FullTextQueries.toBooleanQuery("foo*bar"));
+    }
+
+    @Test
+    void toBooleanQuery_ShouldDropStrayOperators() {
+        assertEquals("foo bar baz", FullTextQueries.toBooleanQuery("(foo) ~bar >baz"));
+        assertEquals("word", FullTextQueries.toBooleanQuery("+ word -"));
+        assertEquals("C", FullTextQueries.toBooleanQuery("C++"));
+        assertEquals("", FullTextQueries.toBooleanQuery("*** \"\" @"));
+        assertEquals("", FullTextQueries.toBooleanQuery(null));
+    }
+}
@@ -0,0 +1,35 @@
+package edu.univ.scientometrics.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PageCursorsTest {
+
+    @Test
+    void decode_ShouldReturnEncodedValues_WithNullAsEmpty() {
+        assertArrayEquals(new String[]{"42", "1007"}, PageCursors.decode(PageCursors.encode(42, 1007L), 2));
+        assertArrayEquals(new String[]{"", "9"}, PageCursors.decode(PageCursors.encode(null, 9L), 2));
+        assertArrayEquals(new String[]{"Ng, Andrew"}, PageCursors.decode(PageCursors.encode("Ng, Andrew"), 1));
+    }
+
+    @Test
+    void encode_ShouldBeUrlSafe() {
+        String cursor = PageCursors.encode("?>?>?>", 1L);
+
+        assertTrue(cursor.matches("[A-Za-z0-9_-]+"), cursor);
+    }
+
+    @Test
+    void decode_ShouldRejectMalformedCursors() {
+        String otherVersion = Base64.getUrlEncoder().withoutPadding()
+                .encodeToString("v0\u00001".getBytes(StandardCharsets.UTF_8));
+
+        assertThrows(IllegalArgumentException.class, () -> PageCursors.decode("not base64!", 1));
+        assertThrows(IllegalArgumentException.class, () -> PageCursors.decode(PageCursors.encode(1, 2), 1));
+        assertThrows(IllegalArgumentException.class, () -> PageCursors.decode(otherVersion, 1));
+    }
+}
@@ -0,0 +1,39 @@
+package edu.univ.scientometrics.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RequestKeysTest {
+
+    @Test
+    void normalize_ShouldIgnoreOrderAndApiKey() {
+        Map<String, String> first = new HashMap<>();
+        first.put("q", "author:\"A Ng\"");
+        first.put("num", " 10 ");
+        first.put("api_key", "one");
+
+        Map<String, String> second = new HashMap<>();
+        second.put("num", "10");
+        second.put("q", "author:\"A Ng\"");
+        second.put("api_key", "two");
+
+        assertEquals("num=10&q=author%3A%22A+Ng%22", RequestKeys.normalize(first));
+        assertEquals(RequestKeys.normalize(first), RequestKeys.normalize(second));
+    }
+
+    @Test
+    void normalize_ShouldNotLetSeparatorsInValuesForgeParameters() {
+        Map<String, String> twoParameters = new HashMap<>();
+        twoParameters.put("q", "x");
+        twoParameters.put("start", "0");
+
+        Map<String, String> oneParameter = new HashMap<>();
+        oneParameter.put("q", "x&start=0");
+
+        assertNotEquals(RequestKeys.normalize(twoParameters), RequestKeys.normalize(oneParameter));
+    }
+}